@@ -1,4 +1,4 @@
-import axios from "axios";
+import axios, { AxiosError, InternalAxiosRequestConfig } from "axios";
 
 // You may need to adjust this if your backend runs on a different host/port
 const api = axios.create({
@@ -18,12 +18,44 @@ api.interceptors.request.use(
     (error) => Promise.reject(error)
 );
 
-// Redirect to log in on 401/403 (expired/invalid token)
+// One refresh at a time; concurrent failures wait for the same new token
+let refreshing: Promise<string> | null = null;
+
+export const refreshAccessToken = (): Promise<string> => {
+    if (!refreshing) {
+        const refreshToken = localStorage.getItem("refreshToken");
+        refreshing = (refreshToken
+            ? axios.post("/api/auth/refresh", { refreshToken }).then((res) => {
+                localStorage.setItem("token", res.data.accessToken);
+                localStorage.setItem("refreshToken", res.data.refreshToken);
+                return res.data.accessToken as string;
+            })
+            : Promise.reject(new Error("No refresh token"))
+        ).finally(() => {
+            refreshing = null;
+        });
+    }
+    return refreshing;
+};
+
+// On 401/403 try once with a refreshed access token, otherwise redirect to log in
 api.interceptors.response.use(
     (response) => response,
-    (error) => {
+    async (error: AxiosError) => {
+        const config = error.config as (InternalAxiosRequestConfig & { _retried?: boolean }) | undefined;
         if (error.response && (error.response.status === 401 || error.response.status === 403)) {
+            if (config && !config._retried && !config.url?.startsWith("/auth/")) {
+                config._retried = true;
+                try {
+                    const token = await refreshAccessToken();
+                    config.headers["Authorization"] = `Bearer ${token}`;
+                    return api(config);
+                } catch {
+                    // fall through to log in
+                }
+            }
             localStorage.removeItem("token");
+            localStorage.removeItem("refreshToken");
             window.location.href = "/login";
         }
         return Promise.reject(error);
@@ -0,0 +1,101 @@
+import { useEffect, useRef, useState } from "react";
+import { refreshAccessToken } from "./axiosInstance";
+
+// One change on a project's feed; data is the new row as the list endpoints return it (null when deleted)
+export interface ProjectChange<T = any> {
+    projectId: string;
+    type: "project" | "member" | "milestone" | "document";
+    action: "created" | "updated" | "deleted" | "added" | "removed";
+    id: string;
+    data: T | null;
+}
+
+const sleep = (ms: number) => new Promise((resolve) => setTimeout(resolve, ms));
+
+// Splits a text/event-stream body into events and passes each JSON data payload on
+const readEvents = async (body: ReadableStream<Uint8Array>, onChange: (change: ProjectChange) => void) => {
+    const reader = body.getReader();
+    const decoder = new TextDecoder();
+    let buffer = "";
+    while (true) {
+        const { done, value } = await reader.read();
+        if (done) return;
+        buffer += decoder.decode(value, { stream: true });
+        let match;
+        while ((match = /\r?\n\r?\n/.exec(buffer)) !== null) {
+            const block = buffer.slice(0, match.index);
+            buffer = buffer.slice(match.index + match[0].length);
+            const data = block
+                .split(/\r?\n/)
+                .filter((line) => line.startsWith("data:"))
+                .map((line) => line.slice(5).replace(/^ /, ""))
+                .join("\n");
+            if (data) onChange(JSON.parse(data));
+        }
+    }
+};
+
+/**
+ * Follows /api/projects/{id}/changes so a page can apply deltas instead of re-fetching or polling.
+ * EventSource cannot send the Authorization header, so the stream is read with fetch. Changes made
+ * while disconnected are not replayed: onReconnect runs once the feed is back so the page can reload.
+ * Returns whether the feed is currently connected.
+ */
+export const useProjectChanges = (
+    projectId: string | undefined,
+    onChange: (change: ProjectChange) => void,
+    onReconnect?: () => void
+): boolean => {
+    const [connected, setConnected] = useState(false);
+    const handlers = useRef({ onChange, onReconnect });
+    handlers.current = { onChange, onReconnect };
+
+    useEffect(() => {
+        if (!projectId) return;
+        const controller = new AbortController();
+        let stopped = false;
+
+        const follow = async () => {
+            let attempt = 0;
+            let refreshed = false;
+            let wasConnected = false;
+            while (!stopped) {
+                try {
+                    const res = await fetch(`/api/projects/${projectId}/changes`, {
+                        headers: {
+                            Accept: "text/event-stream",
+                            Authorization: `Bearer ${localStorage.getItem("token")}`,
+                        },
+                        signal: controller.signal,
+                    });
+                    if ((res.status === 401 || res.status === 403) && !refreshed) {
+                        refreshed = true;
+                        await refreshAccessToken();
+                        continue;
+                    }
+                    if (!res.ok || !res.body) throw new Error(`Change feed returned ${res.status}`);
+                    refreshed = false;
+                    attempt = 0;
+                    setConnected(true);
+                    if (wasConnected) handlers.current.onReconnect?.();
+                    wasConnected = true;
+                    await readEvents(res.body, (change) => handlers.current.onChange(change));
+                } catch {
+                    // Dropped, refused or aborted: retry below unless the page went away
+                }
+                setConnected(false);
+                if (stopped) return;
+                attempt++;
+                await sleep(Math.min(30000, 1000 * 2 ** Math.min(attempt, 5)));
+            }
+        };
+        follow();
+
+        return () => {
+            stopped = true;
+            controller.abort();
+        };
+    }, [projectId]);
+
+    return connected;
+};
@@ -1,11 +1,12 @@
 import React, { createContext, useContext, useState, useEffect } from "react";
 import { jwtDecode } from "jwt-decode";
+import axios from "../api/axiosInstance";
 
 interface AuthContextType {
     user: string | null;
     role: string | null;
     token: string | null;
-    login: (token: string) => void;
+    login: (token: string, refreshToken: string) => void;
     logout: () => void;
 }
 
@@ -38,16 +39,23 @@ export const AuthProvider: React.FC<{children: React.ReactNode}> = ({ children }
         }
     }, [token]);
 
-    const login = (token: string) => {
+    const login = (token: string, refreshToken: string) => {
         setToken(token);
         localStorage.setItem("token", token);
+        localStorage.setItem("refreshToken", refreshToken);
     };
 
     const logout = () => {
+        // End the session on the server too, so the refresh token cannot be reused
+        const refreshToken = localStorage.getItem("refreshToken");
+        if (refreshToken) {
+            axios.post("/auth/logout", { refreshToken }).catch(() => {});
+        }
         setToken(null);
         setUser(null);
         setRole(null);
         localStorage.removeItem("token");
+        localStorage.removeItem("refreshToken");
     };
 
     return (
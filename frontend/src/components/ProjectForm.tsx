@@ -2,6 +2,7 @@ import React, { useState, useEffect } from "react";
 import axios from "../api/axiosInstance";
 import { Project, ProjectStatus } from "../types/Project";
 import { User } from "../types/User";
+import { Page } from "../types/Page";
 import Loader from "./Loader";
 
 interface ProjectFormProps {
@@ -35,8 +36,10 @@ const ProjectForm: React.FC<ProjectFormProps> = ({
             (async function fetchPIUsers() {
                 setLoading(true);
                 try {
-                    const res = await axios.get<User[]>("/users/role/PI");
-                    setAllUsers(res.data);
+                    const res = await axios.get<Page<User>>("/users/role/PI", {
+                        params: { size: 100, sort: "fullName" }
+                    });
+                    setAllUsers(res.data.content);
                 } catch {
                     setAllUsers([]);
                 } finally {
@@ -3,6 +3,7 @@ import { useParams, useNavigate } from "react-router-dom";
 import axios from "../api/axiosInstance";
 import Loader from "../components/Loader";
 import { useAuth } from "../auth/AuthContext";
+import { ProjectChange, useProjectChanges } from "../api/projectChanges";
 
 interface Document {
     id: string;
@@ -52,6 +53,19 @@ const DocumentsPage: React.FC = () => {
         // eslint-disable-next-line
     }, [projectId]);
 
+    // Newest first, like the listing: new documents go on top, updates stay in place
+    const applyChange = (change: ProjectChange<Document>) => {
+        if (change.type !== "document") return;
+        const updated = change.data;
+        setDocuments(prev => {
+            if (change.action === "deleted" || !updated) return prev.filter(d => d.id !== change.id);
+            return prev.some(d => d.id === change.id)
+                ? prev.map(d => (d.id === change.id ? updated : d))
+                : [updated, ...prev];
+        });
+    };
+    const live = useProjectChanges(projectId, applyChange, fetchDocuments);
+
     const handleUpload = async (e: React.FormEvent) => {
         e.preventDefault();
         if (!fileInputRef.current?.files?.length) return;
@@ -72,7 +86,7 @@ const DocumentsPage: React.FC = () => {
             setTitle("");
             setDescription("");
             if (fileInputRef.current) fileInputRef.current.value = "";
-            fetchDocuments();
+            if (!live) fetchDocuments();
         } catch {
             setError("Failed to upload document");
         } finally {
@@ -80,31 +94,48 @@ const DocumentsPage: React.FC = () => {
         }
     };
 
+    // Download using a temporary link
+    const saveBlob = (blob: Blob, fileName: string) => {
+        const url = window.URL.createObjectURL(blob);
+        const link = document.createElement("a");
+        link.href = url;
+        link.setAttribute("download", fileName);
+        document.body.appendChild(link);
+        link.click();
+        link.parentNode?.removeChild(link);
+        window.URL.revokeObjectURL(url);
+    };
+
     const handleDownload = async (docId: string, docTitle: string) => {
         try {
             const res = await axios.get(`/documents/${docId}/download`, {
                 responseType: "blob"
             });
-            // Download using a temporary link
-            const url = window.URL.createObjectURL(res.data as Blob);
-            const link = document.createElement("a");
-            link.href = url;
-            link.setAttribute("download", docTitle || "document");
-            document.body.appendChild(link);
-            link.click();
-            link.parentNode?.removeChild(link);
-            window.URL.revokeObjectURL(url);
+            saveBlob(res.data as Blob, docTitle || "document");
         } catch {
             setError("Failed to download file");
         }
     };
 
+    // All files of the project as one ZIP with a manifest
+    const handleDownloadAll = async () => {
+        setError("");
+        try {
+            const res = await axios.get(`/projects/${projectId}/documents/archive`, {
+                responseType: "blob"
+            });
+            saveBlob(res.data as Blob, `${projectId}.zip`);
+        } catch {
+            setError("Failed to download documents");
+        }
+    };
+
     const handleDelete = async (docId: string) => {
         if (!window.confirm("Delete this document?")) return;
         setError("");
         try {
             await axios.delete(`/documents/${docId}`);
-            fetchDocuments();
+            if (!live) fetchDocuments();
         } catch {
             setError("Failed to delete document");
         }
@@ -116,6 +147,11 @@ const DocumentsPage: React.FC = () => {
                 &larr; Back to Project
             </button>
             <h2 style={{ color: "var(--spud-purple)", fontWeight: "bold" }}>Documents</h2>
+            {documents.length > 0 && (
+                <button className="btn btn-spud-secondary mb-3" onClick={handleDownloadAll}>
+                    Download all
+                </button>
+            )}
             {loading && <Loader />}
             {error && <div className="alert alert-danger">{error}</div>}
 
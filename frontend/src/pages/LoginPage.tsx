@@ -24,7 +24,7 @@ const LoginPage: React.FC = () => {
         setError("");
         try {
             const res = await axios.post("/auth/login", { username, password });
-            login(String(res.data));
+            login(res.data.accessToken, res.data.refreshToken);
             navigate("/projects", { replace: true });
         } catch (err: any) {
             setError("Invalid username or password");
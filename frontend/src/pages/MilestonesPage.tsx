@@ -3,6 +3,7 @@ import { useParams, useNavigate } from "react-router-dom";
 import axios from "../api/axiosInstance";
 import { useAuth } from "../auth/AuthContext";
 import Loader from "../components/Loader";
+import { ProjectChange, useProjectChanges } from "../api/projectChanges";
 
 interface Milestone {
     id: string;
@@ -55,6 +56,17 @@ const MilestonesPage: React.FC = () => {
         // eslint-disable-next-line
     }, [projectId]);
 
+    // Apply changes from anyone (including this page) as they happen, kept in due-date order
+    const applyChange = (change: ProjectChange<Milestone>) => {
+        if (change.type !== "milestone") return;
+        setMilestones(prev => {
+            const rest = prev.filter(m => m.id !== change.id);
+            if (change.action === "deleted" || !change.data) return rest;
+            return [...rest, change.data].sort((a, b) => (a.dueDate || "").localeCompare(b.dueDate || ""));
+        });
+    };
+    const live = useProjectChanges(projectId, applyChange, fetchMilestones);
+
     const resetForm = () => {
         setTitle("");
         setDescription("");
@@ -89,7 +101,7 @@ const MilestonesPage: React.FC = () => {
                 });
             }
             resetForm();
-            fetchMilestones();
+            if (!live) fetchMilestones();
         } catch (err: any) {
             setError("Failed to save milestone");
         } finally {
@@ -112,7 +124,7 @@ const MilestonesPage: React.FC = () => {
         setError("");
         try {
             await axios.delete(`/milestones/${id}`);
-            fetchMilestones();
+            if (!live) fetchMilestones();
         } catch {
             setError("Failed to delete milestone");
         } finally {
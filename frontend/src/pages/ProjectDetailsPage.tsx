@@ -3,8 +3,11 @@ import { useParams, useNavigate } from "react-router-dom";
 import axios from "../api/axiosInstance";
 import { Project } from "../types/Project";
 import { User } from "../types/User";
+import { Page } from "../types/Page";
+import { ProjectOverview } from "../types/ProjectOverview";
 import Loader from "../components/Loader";
 import { useAuth } from "../auth/AuthContext";
+import { ProjectChange, useProjectChanges } from "../api/projectChanges";
 
 const ProjectDetailsPage: React.FC = () => {
     const { id } = useParams<{ id: string }>();
@@ -12,6 +15,7 @@ const ProjectDetailsPage: React.FC = () => {
     const { user, role } = useAuth();
 
     const [project, setProject] = useState<Project | null>(null);
+    const [overview, setOverview] = useState<ProjectOverview | null>(null);
     const [members, setMembers] = useState<User[]>([]);
     const [allUsers, setAllUsers] = useState<User[]>([]);
     const [loading, setLoading] = useState(true);
@@ -19,36 +23,54 @@ const ProjectDetailsPage: React.FC = () => {
     const [error, setError] = useState<string>("");
     const [addMemberUsername, setAddMemberUsername] = useState("");
 
-    // Fetch project details
+    // Fetch project, members and progress counts in one request; quiet reloads keep the page on screen
+    const fetchOverview = async (quiet = false) => {
+        if (!quiet) setLoading(true);
+        setError("");
+        try {
+            const res = await axios.get<ProjectOverview>(`/projects/${id}/overview`);
+            setProject(res.data.project);
+            setMembers(res.data.members.first);
+            setOverview(res.data);
+        } catch (err: any) {
+            setError("Failed to fetch project");
+        } finally {
+            setLoading(false);
+        }
+    };
+
     useEffect(() => {
-        const fetchProject = async () => {
-            setLoading(true);
-            setError("");
-            try {
-                const res = await axios.get<Project>(`/projects/${id}`);
-                setProject(res.data);
-            } catch (err: any) {
-                setError("Failed to fetch project");
-            } finally {
-                setLoading(false);
-            }
-        };
-        fetchProject();
+        fetchOverview();
+        // eslint-disable-next-line
     }, [id]);
 
-    // Fetch members
-    useEffect(() => {
-        const fetchMembers = async () => {
-            if (!id) return;
-            try {
-                const res = await axios.get<User[]>(`/projects/${id}/members`);
-                setMembers(res.data);
-            } catch {
-                setMembers([]);
-            }
-        };
-        fetchMembers();
-    }, [id, project]);
+    // Project and member changes are applied directly; milestone and document changes only
+    // move the progress counts, which are recomputed by one overview request
+    const applyChange = (change: ProjectChange) => {
+        switch (change.type) {
+            case "project":
+                if (change.action === "deleted") setError("This project has been deleted");
+                else setProject(change.data);
+                break;
+            case "member":
+                setMembers(prev => {
+                    const rest = prev.filter(m => m.id !== change.id);
+                    if (change.action === "removed") return rest;
+                    return [...rest, change.data as User].sort((a, b) => a.username.localeCompare(b.username));
+                });
+                break;
+            default:
+                fetchOverview(true);
+        }
+    };
+    const live = useProjectChanges(id, applyChange, () => fetchOverview(true));
+
+    const reloadMembers = async () => {
+        const res = await axios.get<Page<User>>(`/projects/${id}/members`, {
+            params: { size: 100 }
+        });
+        setMembers(res.data.content);
+    };
 
     // Fetch all users for adding as members (ADMIN/PI only) - use correct endpoint
     useEffect(() => {
@@ -56,8 +78,10 @@ const ProjectDetailsPage: React.FC = () => {
             if (role === "ADMIN" || role === "PI") {
                 try {
                     // Use the correct endpoint to get all users except admins
-                    const res = await axios.get<User[]>("/users/all-for-membership");
-                    setAllUsers(res.data);
+                    const res = await axios.get<Page<User>>("/users/all-for-membership", {
+                        params: { size: 100, sort: "fullName" }
+                    });
+                    setAllUsers(res.data.content);
                 } catch {
                     setAllUsers([]);
                 }
@@ -73,9 +97,8 @@ const ProjectDetailsPage: React.FC = () => {
         try {
             await axios.post(`/projects/${id}/members`, { username: addMemberUsername });
             setAddMemberUsername("");
-            // Refresh member list
-            const res = await axios.get<User[]>(`/projects/${id}/members`);
-            setMembers(res.data);
+            // The change feed delivers the new member; reload only when it is down
+            if (!live) await reloadMembers();
         } catch (err: any) {
             setError(
                 err?.response?.data?.error ||
@@ -93,9 +116,7 @@ const ProjectDetailsPage: React.FC = () => {
         setError("");
         try {
             await axios.delete(`/projects/${id}/members/${username}`);
-            // Refresh member list
-            const res = await axios.get<User[]>(`/projects/${id}/members`);
-            setMembers(res.data);
+            if (!live) await reloadMembers();
         } catch (err: any) {
             setError(
                 err?.response?.data?.error ||
@@ -144,6 +165,22 @@ const ProjectDetailsPage: React.FC = () => {
                 <div><strong>Tags:</strong> <span className="text-muted">{project.tags || "-"}</span></div>
                 <div><strong>Start Date:</strong> {project.startDate || "-"}</div>
                 <div><strong>End Date:</strong> {project.endDate || "-"}</div>
+                {overview && (
+                    <>
+                        <div>
+                            <strong>Milestones:</strong> {overview.milestones.completed}/{overview.milestones.total} completed
+                            {overview.milestones.overdue > 0 && (
+                                <span className="badge bg-danger ms-2">{overview.milestones.overdue} overdue</span>
+                            )}
+                            {overview.milestones.nextDue && (
+                                <span className="text-muted ms-2">next due {overview.milestones.nextDue}</span>
+                            )}
+                        </div>
+                        <div>
+                            <strong>Documents:</strong> {overview.documents.count} ({(overview.documents.totalBytes / 1024).toFixed(1)} KB)
+                        </div>
+                    </>
+                )}
             </div>
             <div className="mb-4">
                 <strong>Summary:</strong>
@@ -5,6 +5,9 @@ import Loader from "../components/Loader";
 import ProjectForm from "../components/ProjectForm";
 import { useAuth } from "../auth/AuthContext";
 import { Link } from "react-router-dom";
+import { Page } from "../types/Page";
+
+const PAGE_SIZE = 20;
 
 const ProjectsPage: React.FC = () => {
     const [projects, setProjects] = useState<Project[]>([]);
@@ -13,24 +16,21 @@ const ProjectsPage: React.FC = () => {
     const [showForm, setShowForm] = useState(false);
     const [editProject, setEditProject] = useState<Project | null>(null);
     const [deleteLoadingId, setDeleteLoadingId] = useState<string | null>(null);
+    const [page, setPage] = useState(0);
+    const [totalPages, setTotalPages] = useState(0);
     const { user, role } = useAuth();
 
     const fetchProjects = async () => {
         setLoading(true);
         setError("");
         try {
-            const res = await axios.get<Project[]>("/projects");
-            let filtered: Project[] = [];
-            if (role === "ADMIN" || role === "VIEWER") {
-                filtered = res.data;
-            } else {
-                filtered = res.data.filter(
-                    (project) =>
-                        project.pi?.username === user ||
-                        (project.members && project.members.some(m => m.username === user))
-                );
-            }
-            setProjects(filtered);
+            // ADMIN and VIEWER see every project; others only the ones they lead or belong to
+            const member = role === "ADMIN" || role === "VIEWER" ? undefined : user;
+            const res = await axios.get<Page<Project>>("/projects", {
+                params: { page, size: PAGE_SIZE, member }
+            });
+            setProjects(res.data.content);
+            setTotalPages(res.data.page.totalPages);
         } catch (err: any) {
             setError(
                 err?.response?.data?.error ||
@@ -45,7 +45,7 @@ const ProjectsPage: React.FC = () => {
     useEffect(() => {
         fetchProjects();
         // eslint-disable-next-line
-    }, [user, role]);
+    }, [user, role, page]);
 
     const handleCreate = () => {
         setEditProject(null);
@@ -180,6 +180,25 @@ const ProjectsPage: React.FC = () => {
                             </tbody>
                         </table>
                     )}
+                    {totalPages > 1 && (
+                        <div className="d-flex align-items-center gap-2">
+                            <button
+                                className="btn btn-sm btn-spud-secondary"
+                                disabled={page === 0}
+                                onClick={() => setPage(page - 1)}
+                            >
+                                Previous
+                            </button>
+                            <span>Page {page + 1} of {totalPages}</span>
+                            <button
+                                className="btn btn-sm btn-spud-secondary"
+                                disabled={page + 1 >= totalPages}
+                                onClick={() => setPage(page + 1)}
+                            >
+                                Next
+                            </button>
+                        </div>
+                    )}
                 </>
             )}
         </div>
@@ -0,0 +1,10 @@
+// Paged response returned by list endpoints (Spring Data PagedModel)
+export interface Page<T> {
+    content: T[];
+    page: {
+        size: number;
+        number: number;
+        totalElements: number;
+        totalPages: number;
+    };
+}
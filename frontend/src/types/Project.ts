@@ -12,5 +12,5 @@ export interface Project {
     endDate: string;
     createdAt: string;
     updatedAt: string;
-    members: User[];
+    members?: User[];
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+import { Project } from "./Project";
+import { User } from "./User";
+
+// Response of GET /projects/{id}/overview
+export interface ProjectOverview {
+    project: Project;
+    members: {
+        total: number;
+        first: User[];
+    };
+    milestones: {
+        total: number;
+        completed: number;
+        overdue: number;
+        nextDue: string | null;
+    };
+    documents: {
+        count: number;
+        totalBytes: number;
+    };
+}
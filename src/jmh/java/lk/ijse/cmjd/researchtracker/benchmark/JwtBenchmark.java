@@ -0,0 +1,50 @@
+package lk.ijse.cmjd.researchtracker.benchmark;
+
+import lk.ijse.cmjd.researchtracker.auth.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Token issue and check costs; validateToken hits the verified-token cache after the first call,
+// extractUsername always parses and checks the signature
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+	private JwtUtil jwtUtil;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtUtil = new JwtUtil();
+		token = jwtUtil.generateToken("benchmark-user", "MEMBER");
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtUtil.generateToken("benchmark-user", "MEMBER");
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtUtil.validateToken(token, "benchmark-user");
+	}
+
+	@Benchmark
+	public String parseAndVerify() {
+		return jwtUtil.extractUsername(token);
+	}
+}
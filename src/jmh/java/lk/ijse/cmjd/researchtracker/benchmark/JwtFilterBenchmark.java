@@ -0,0 +1,88 @@
+package lk.ijse.cmjd.researchtracker.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lk.ijse.cmjd.researchtracker.auth.JwtAuthenticationFilter;
+import lk.ijse.cmjd.researchtracker.auth.JwtUtil;
+import lk.ijse.cmjd.researchtracker.auth.TokenVersionRegistry;
+import lk.ijse.cmjd.researchtracker.user.CustomUserDetails;
+import lk.ijse.cmjd.researchtracker.user.CustomUserDetailsService;
+import lk.ijse.cmjd.researchtracker.user.User;
+import lk.ijse.cmjd.researchtracker.user.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// One authenticated request through the JWT filter. In non-stateless mode the user lookup is an
+// in-memory stand-in, so the numbers exclude the database round trip the real lookup adds.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+	@Param({"true", "false"})
+	private boolean stateless;
+
+	private JwtAuthenticationFilter filter;
+	private String authorization;
+
+	@Setup
+	public void setUp() {
+		User user = new User("benchmark-id", "benchmark-user", "{noop}secret", "Benchmark User",
+				UserRole.MEMBER, LocalDateTime.now());
+		JwtUtil jwtUtil = new JwtUtil();
+
+		filter = new JwtAuthenticationFilter();
+		ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+		ReflectionTestUtils.setField(filter, "tokenVersionRegistry", new TokenVersionRegistry(null));
+		ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(filter, "userDetailsService", new CustomUserDetailsService(null, null) {
+			@Override
+			public UserDetails loadUserByUsername(String username) {
+				return new CustomUserDetails(user);
+			}
+		});
+		ReflectionTestUtils.setField(filter, "stateless", stateless);
+
+		authorization = "Bearer " + jwtUtil.generateToken(user.getUsername(), user.getRole().name());
+	}
+
+	@TearDown
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Benchmark
+	public Authentication authenticatedRequest() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+		request.setServletPath("/api/projects");
+		request.addHeader("Authorization", authorization);
+		try {
+			filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+			return SecurityContextHolder.getContext().getAuthentication();
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+}
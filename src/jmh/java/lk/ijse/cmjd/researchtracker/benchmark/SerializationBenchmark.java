@@ -0,0 +1,106 @@
+package lk.ijse.cmjd.researchtracker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lk.ijse.cmjd.researchtracker.project.Project;
+import lk.ijse.cmjd.researchtracker.project.ProjectSummary;
+import lk.ijse.cmjd.researchtracker.user.User;
+import lk.ijse.cmjd.researchtracker.user.UserRole;
+import lk.ijse.cmjd.researchtracker.user.UserSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// JSON cost of a project with N members: the entity (members are not serialized), its summary,
+// and the member list as full User entities versus UserSummary rows
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+	@Param({"0", "10", "100", "1000"})
+	private int members;
+
+	private ObjectMapper objectMapper;
+	private Project project;
+	private ProjectSummary projectSummary;
+	private List<User> memberUsers;
+	private List<UserSummary> memberSummaries;
+
+	@Setup
+	public void setUp() {
+		// Same date handling as the application's Boot-configured mapper
+		objectMapper = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.build();
+
+		User pi = user(0, UserRole.PI);
+		Set<User> users = new HashSet<>();
+		for (int i = 1; i <= members; i++) {
+			users.add(user(i, UserRole.MEMBER));
+		}
+
+		project = new Project();
+		project.setId("benchmark-project");
+		project.setTitle("Benchmark project");
+		project.setSummary("A project used to measure serialization cost");
+		project.setStatus(Project.Status.ACTIVE);
+		project.setPi(pi);
+		project.setTags("AI, environment, benchmarks");
+		project.setStartDate(LocalDate.of(2025, 1, 1));
+		project.setEndDate(LocalDate.of(2026, 1, 1));
+		project.setCreatedAt(LocalDateTime.now());
+		project.setUpdatedAt(LocalDateTime.now());
+		project.setMembers(users);
+
+		projectSummary = ProjectSummary.from(project);
+		memberUsers = new ArrayList<>(users);
+		memberSummaries = memberUsers.stream().map(UserSummary::from).toList();
+	}
+
+	@Benchmark
+	public byte[] projectEntity() throws Exception {
+		return objectMapper.writeValueAsBytes(project);
+	}
+
+	@Benchmark
+	public byte[] projectSummary() throws Exception {
+		return objectMapper.writeValueAsBytes(projectSummary);
+	}
+
+	@Benchmark
+	public byte[] membersAsUsers() throws Exception {
+		return objectMapper.writeValueAsBytes(memberUsers);
+	}
+
+	@Benchmark
+	public byte[] membersAsSummaries() throws Exception {
+		return objectMapper.writeValueAsBytes(memberSummaries);
+	}
+
+	private static User user(int i, UserRole role) {
+		return new User("user-" + i, "user" + i,
+				"$2a$10$abcdefghijklmnopqrstuuMDEIWm0ZkUJz0DWc0E4oHnW5O2Nw0zm",
+				"User " + i, role, LocalDateTime.now());
+	}
+}
@@ -0,0 +1,47 @@
+package lk.ijse.cmjd.researchtracker.loadtest;
+
+import java.util.Arrays;
+
+// Latencies of one endpoint as seen by one worker; merged into a single log for the report
+class LatencyLog {
+
+	private long[] nanos = new long[1024];
+	private int count;
+	private int errors;
+
+	void record(long elapsedNanos, boolean success) {
+		if (count == nanos.length) {
+			nanos = Arrays.copyOf(nanos, count * 2);
+		}
+		nanos[count++] = elapsedNanos;
+		if (!success) {
+			errors++;
+		}
+	}
+
+	void addAll(LatencyLog other) {
+		for (int i = 0; i < other.count; i++) {
+			record(other.nanos[i], true);
+		}
+		errors += other.errors;
+	}
+
+	int count() {
+		return count;
+	}
+
+	int errors() {
+		return errors;
+	}
+
+	// Nearest-rank percentile in milliseconds
+	double percentileMillis(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		long[] sorted = Arrays.copyOf(nanos, count);
+		Arrays.sort(sorted);
+		int rank = (int) Math.ceil(percentile / 100.0 * count);
+		return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+	}
+}
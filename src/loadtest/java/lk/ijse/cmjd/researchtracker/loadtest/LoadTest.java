@@ -0,0 +1,249 @@
+package lk.ijse.cmjd.researchtracker.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lk.ijse.cmjd.researchtracker.ResearchtrackerApplication;
+import lk.ijse.cmjd.researchtracker.auth.TokenResponse;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Boots the application on an in-memory H2 database (MySQL mode), seeds it and drives a weighted
+ * mix of read endpoints from virtual-thread workers, then prints p50/p99 latency and throughput
+ * per endpoint.
+ *
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="--loadtest.concurrency=64 --loadtest.projects=2000"
+ * </pre>
+ *
+ * Any application property can be passed the same way, e.g. {@code --spring.threads.virtual.enabled=true}.
+ */
+public class LoadTest {
+
+	private static final String[] DEFAULT_ARGS = {
+			"--server.port=0",
+			"--spring.main.banner-mode=off",
+			"--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+			"--spring.datasource.username=sa",
+			"--spring.datasource.password=",
+			"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+			"--spring.jpa.show-sql=false",
+			"--logging.level.root=WARN",
+			"--logging.level.org.springframework.security=WARN",
+			"--search.index.dir=target/loadtest/search-index-" + System.currentTimeMillis(),
+			"--document.upload.dir=target/loadtest/uploads"
+	};
+
+	private static final ObjectMapper JSON = new ObjectMapper();
+	private static final int LOGIN_ATTEMPTS = 5;
+	private static final long LOGIN_BACKOFF_MILLIS = 200;
+
+	private record Endpoint(String name, int weight, Function<Random, String> path) {
+	}
+
+	public static void main(String[] args) throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ResearchtrackerApplication.class)
+				.run(withDefaults(args))) {
+			Environment env = context.getEnvironment();
+			int users = env.getProperty("loadtest.users", Integer.class, 200);
+			int projects = env.getProperty("loadtest.projects", Integer.class, 500);
+			int membersPerProject = env.getProperty("loadtest.members-per-project", Integer.class, 8);
+			int milestonesPerProject = env.getProperty("loadtest.milestones-per-project", Integer.class, 6);
+			int documentsPerProject = env.getProperty("loadtest.documents-per-project", Integer.class, 4);
+			int concurrency = env.getProperty("loadtest.concurrency", Integer.class, 32);
+			int warmupSeconds = env.getProperty("loadtest.warmup-seconds", Integer.class, 5);
+			int durationSeconds = env.getProperty("loadtest.duration-seconds", Integer.class, 30);
+			long seed = env.getProperty("loadtest.seed", Long.class, 42L);
+
+			long seedStart = System.nanoTime();
+			LoadTestSeeder.Seed data = new LoadTestSeeder(context, seed)
+					.seed(users, projects, membersPerProject, milestonesPerProject, documentsPerProject);
+			System.out.printf("Seeded %d users, %d projects, %d milestones, %d documents in %d ms%n",
+					users, projects, projects * milestonesPerProject, projects * documentsPerProject,
+					Duration.ofNanos(System.nanoTime() - seedStart).toMillis());
+
+			String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+			HttpClient client = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_1_1)
+					.executor(Executors.newVirtualThreadPerTaskExecutor())
+					.build();
+			List<Endpoint> mix = endpoints(data);
+
+			Map<String, LatencyLog> logs = new LinkedHashMap<>();
+			long measureStart = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+			long end = measureStart + Duration.ofSeconds(durationSeconds).toNanos();
+
+			try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+				List<Future<Map<String, LatencyLog>>> results = new ArrayList<>();
+				for (int w = 0; w < concurrency; w++) {
+					String username = data.piUsernames().get(w % data.piUsernames().size());
+					Random random = new Random(seed + w);
+					results.add(workers.submit(() -> runWorker(client, baseUrl, username, mix, random, measureStart, end)));
+				}
+				for (Future<Map<String, LatencyLog>> result : results) {
+					result.get().forEach((name, log) -> logs.computeIfAbsent(name, k -> new LatencyLog()).addAll(log));
+				}
+			}
+
+			printReport(logs, durationSeconds, concurrency, env.getProperty("spring.threads.virtual.enabled", "false"));
+		}
+	}
+
+	// Each worker is one logged-in user issuing requests back to back
+	private static Map<String, LatencyLog> runWorker(HttpClient client, String baseUrl, String username,
+			List<Endpoint> mix, Random random, long measureStart, long end) throws Exception {
+		Map<String, LatencyLog> logs = new LinkedHashMap<>();
+		int totalWeight = mix.stream().mapToInt(Endpoint::weight).sum();
+
+		String authorization = "Bearer " + login(client, baseUrl, username,
+				logs.computeIfAbsent("POST /api/auth/login", k -> new LatencyLog()));
+
+		while (System.nanoTime() < end) {
+			Endpoint endpoint = pick(mix, random.nextInt(totalWeight));
+			HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.path().apply(random)))
+					.header("Authorization", authorization)
+					.build();
+			long start = System.nanoTime();
+			int status;
+			try {
+				status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+			} catch (IOException e) {
+				status = -1;
+			}
+			long elapsed = System.nanoTime() - start;
+			if (start >= measureStart) {
+				logs.computeIfAbsent(endpoint.name(), k -> new LatencyLog()).record(elapsed, status >= 200 && status < 300);
+			}
+		}
+		return logs;
+	}
+
+	// A burst of logins can be turned away with 429 by the bounded login queue; back off and retry,
+	// recording every attempt. A worker that still cannot log in fails the run rather than
+	// silently leaving the measured concurrency below what was asked for
+	private static String login(HttpClient client, String baseUrl, String username, LatencyLog log) throws Exception {
+		HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(
+						"{\"username\":\"" + username + "\",\"password\":\"" + LoadTestSeeder.PASSWORD + "\"}"))
+				.build();
+		int status = -1;
+		for (int attempt = 0; attempt < LOGIN_ATTEMPTS; attempt++) {
+			if (attempt > 0) {
+				Thread.sleep(LOGIN_BACKOFF_MILLIS << (attempt - 1));
+			}
+			long start = System.nanoTime();
+			HttpResponse<String> response;
+			try {
+				response = client.send(login, HttpResponse.BodyHandlers.ofString());
+				status = response.statusCode();
+			} catch (IOException e) {
+				response = null;
+				status = -1;
+			}
+			log.record(System.nanoTime() - start, status == 200);
+			if (status == 200) {
+				return JSON.readValue(response.body(), TokenResponse.class).accessToken();
+			}
+		}
+		throw new IllegalStateException("Login failed for " + username + " after " + LOGIN_ATTEMPTS
+				+ " attempts, last status " + status);
+	}
+
+	// The read paths the frontend hits most, weighted roughly by how often its pages call them
+	private static List<Endpoint> endpoints(LoadTestSeeder.Seed data) {
+		List<String> projectIds = data.projectIds();
+		List<String> members = data.memberUsernames().isEmpty() ? data.piUsernames() : data.memberUsernames();
+		return List.of(
+				new Endpoint("GET /api/projects", 20,
+						r -> "/api/projects?page=" + r.nextInt(5)),
+				new Endpoint("GET /api/projects?member=", 10,
+						r -> "/api/projects?member=" + pick(members, r)),
+				new Endpoint("GET /api/projects/{id}", 10,
+						r -> "/api/projects/" + pick(projectIds, r)),
+				new Endpoint("GET /api/projects/{id}/overview", 10,
+						r -> "/api/projects/" + pick(projectIds, r) + "/overview"),
+				new Endpoint("GET /api/projects/{id}/members", 10,
+						r -> "/api/projects/" + pick(projectIds, r) + "/members"),
+				new Endpoint("GET /api/projects/{id}/milestones", 10,
+						r -> "/api/projects/" + pick(projectIds, r) + "/milestones"),
+				new Endpoint("GET /api/milestones?overdue=true&member=", 5,
+						r -> "/api/milestones?overdue=true&member=" + pick(members, r)),
+				new Endpoint("GET /api/documents?projectId=", 10,
+						r -> "/api/documents?projectId=" + pick(projectIds, r)),
+				new Endpoint("GET /api/search", 10,
+						r -> "/api/search?q=" + URLEncoder.encode(pick(LoadTestSeeder.WORDS, r), StandardCharsets.UTF_8)),
+				new Endpoint("GET /api/users/role/PI", 5,
+						r -> "/api/users/role/PI"),
+				new Endpoint("GET /api/projects/tags", 5,
+						r -> "/api/projects/tags")
+		);
+	}
+
+	private static void printReport(Map<String, LatencyLog> logs, int durationSeconds, int concurrency, String virtualThreads) {
+		System.out.printf("%nconcurrency=%d, duration=%ds, virtual threads=%s%n", concurrency, durationSeconds, virtualThreads);
+		System.out.printf("%-36s %9s %7s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms");
+		LatencyLog total = new LatencyLog();
+		for (Map.Entry<String, LatencyLog> entry : logs.entrySet()) {
+			LatencyLog log = entry.getValue();
+			printRow(entry.getKey(), log, durationSeconds);
+			if (!entry.getKey().startsWith("POST /api/auth/login")) {
+				total.addAll(log);
+			}
+		}
+		printRow("all (excluding login)", total, durationSeconds);
+	}
+
+	private static void printRow(String name, LatencyLog log, int durationSeconds) {
+		System.out.printf("%-36s %9d %7d %9.1f %9.2f %9.2f%n", name, log.count(), log.errors(),
+				(double) log.count() / durationSeconds, log.percentileMillis(50), log.percentileMillis(99));
+	}
+
+	// Defaults go first as command-line arguments, so they beat application.properties;
+	// any default the caller passes explicitly is dropped instead of being duplicated
+	private static String[] withDefaults(String[] args) {
+		List<String> merged = new ArrayList<>();
+		for (String option : DEFAULT_ARGS) {
+			String key = option.substring(0, option.indexOf('=') + 1);
+			if (Arrays.stream(args).noneMatch(arg -> arg.startsWith(key))) {
+				merged.add(option);
+			}
+		}
+		merged.addAll(Arrays.asList(args));
+		return merged.toArray(String[]::new);
+	}
+
+	private static Endpoint pick(List<Endpoint> mix, int roll) {
+		for (Endpoint endpoint : mix) {
+			roll -= endpoint.weight();
+			if (roll < 0) {
+				return endpoint;
+			}
+		}
+		return mix.get(mix.size() - 1);
+	}
+
+	private static <T> T pick(List<T> values, Random random) {
+		return values.get(random.nextInt(values.size()));
+	}
+}
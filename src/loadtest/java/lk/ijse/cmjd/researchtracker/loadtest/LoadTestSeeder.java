@@ -0,0 +1,147 @@
+package lk.ijse.cmjd.researchtracker.loadtest;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lk.ijse.cmjd.researchtracker.document.Document;
+import lk.ijse.cmjd.researchtracker.milestone.Milestone;
+import lk.ijse.cmjd.researchtracker.project.Project;
+import lk.ijse.cmjd.researchtracker.search.SearchIndex;
+import lk.ijse.cmjd.researchtracker.user.User;
+import lk.ijse.cmjd.researchtracker.user.UserRole;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+// Seeds users, projects, milestones and documents straight through JPA, one transaction per batch
+class LoadTestSeeder {
+
+	static final String PASSWORD = "loadtest";
+	static final List<String> WORDS = List.of(
+			"climate", "genome", "sensor", "ocean", "neural", "soil", "protein", "urban",
+			"energy", "vaccine", "satellite", "language", "robotics", "water", "crop", "quantum");
+
+	private static final int BATCH_SIZE = 500;
+
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final PasswordEncoder passwordEncoder;
+	private final SearchIndex searchIndex;
+	private final Random random;
+
+	LoadTestSeeder(ApplicationContext context, long seed) {
+		this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+				context.getBean(EntityManagerFactory.class));
+		this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		this.passwordEncoder = context.getBean(PasswordEncoder.class);
+		this.searchIndex = context.getBean(SearchIndex.class);
+		this.random = new Random(seed);
+	}
+
+	record Seed(List<String> piUsernames, List<String> memberUsernames, List<String> projectIds) {
+	}
+
+	Seed seed(int users, int projects, int membersPerProject, int milestonesPerProject, int documentsPerProject)
+			throws Exception {
+		// One hash for everyone: seeding thousands of users should not pay BCrypt per row
+		String passwordHash = passwordEncoder.encode(PASSWORD);
+		int pis = Math.max(1, users / 10);
+
+		List<String> piIds = new ArrayList<>();
+		List<String> piUsernames = new ArrayList<>();
+		List<String> memberIds = new ArrayList<>();
+		List<String> memberUsernames = new ArrayList<>();
+		inBatches(users, i -> {
+			boolean pi = i < pis;
+			String username = (pi ? "pi-" : "member-") + i;
+			User user = new User(UUID.randomUUID().toString(), username, passwordHash,
+					"Load Test " + username, pi ? UserRole.PI : UserRole.MEMBER, null);
+			entityManager.persist(user);
+			(pi ? piIds : memberIds).add(user.getId());
+			(pi ? piUsernames : memberUsernames).add(username);
+		});
+
+		List<String> projectIds = new ArrayList<>();
+		inBatches(projects, i -> {
+			Project project = new Project();
+			project.setTitle("Project " + i + " " + word() + " " + word());
+			project.setSummary("Load test project studying " + word() + " and " + word() + " data");
+			project.setStatus(pick(Project.Status.values()));
+			project.setPi(entityManager.getReference(User.class, pick(piIds)));
+			project.setTags(word() + ", " + word());
+			project.setStartDate(LocalDate.now().minusDays(random.nextInt(720)));
+			project.setEndDate(project.getStartDate().plusDays(180 + random.nextInt(720)));
+			Set<User> members = new HashSet<>();
+			for (int m = 0; m < membersPerProject && !memberIds.isEmpty(); m++) {
+				members.add(entityManager.getReference(User.class, pick(memberIds)));
+			}
+			project.setMembers(members);
+			entityManager.persist(project);
+			projectIds.add(project.getId());
+		});
+
+		inBatches(projects * milestonesPerProject, i -> {
+			Milestone milestone = new Milestone();
+			milestone.setId(UUID.randomUUID().toString());
+			milestone.setProject(entityManager.getReference(Project.class, projectIds.get(i / milestonesPerProject)));
+			milestone.setTitle("Milestone " + i + " " + word());
+			milestone.setDescription("Deliver the " + word() + " results");
+			milestone.setDueDate(LocalDate.now().plusDays(random.nextInt(360) - 180));
+			milestone.setCompleted(random.nextInt(10) < 4);
+			milestone.setCreatedBy(entityManager.getReference(User.class, pick(piIds)));
+			milestone.setCreatedAt(LocalDateTime.now());
+			entityManager.persist(milestone);
+		});
+
+		inBatches(projects * documentsPerProject, i -> {
+			Document document = new Document();
+			document.setProject(entityManager.getReference(Project.class, projectIds.get(i / documentsPerProject)));
+			document.setTitle("Document " + i + " " + word());
+			document.setDescription("Notes on " + word());
+			document.setUrlOrPath("https://example.org/documents/" + i);
+			document.setFileType("link");
+			document.setSize((long) random.nextInt(5_000_000));
+			document.setUploadedBy(entityManager.getReference(User.class, pick(piIds)));
+			entityManager.persist(document);
+		});
+
+		// Rows were written past the services, so build the search index from the database
+		searchIndex.rebuildIfEmpty();
+		return new Seed(piUsernames, memberUsernames, projectIds);
+	}
+
+	private void inBatches(int count, IntConsumer persistOne) {
+		for (int start = 0; start < count; start += BATCH_SIZE) {
+			int from = start;
+			int to = Math.min(count, start + BATCH_SIZE);
+			transactionTemplate.executeWithoutResult(status -> {
+				for (int i = from; i < to; i++) {
+					persistOne.accept(i);
+				}
+			});
+		}
+	}
+
+	private String word() {
+		return pick(WORDS);
+	}
+
+	private <T> T pick(List<T> values) {
+		return values.get(random.nextInt(values.size()));
+	}
+
+	private <T> T pick(T[] values) {
+		return values[random.nextInt(values.length)];
+	}
+}
@@ -4,12 +4,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthService authService;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/signup")
     public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
@@ -18,8 +21,23 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
-        String jwt = authService.login(request);
-        return ResponseEntity.ok(jwt);
+    public CompletableFuture<ResponseEntity<TokenResponse>> login(@RequestBody LoginRequest request) {
+        return authService.login(request).thenApply(ResponseEntity::ok);
+    }
+
+    // Exchange a refresh token for a new access token and the next refresh token
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@RequestBody RefreshRequest request) {
+        return ResponseEntity.ok(refreshTokenService.refresh(request.getRefreshToken()));
+    }
+
+    // End this session, or with everywhere=true revoke every token of the user
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(
+            @RequestBody RefreshRequest request,
+            @RequestParam(defaultValue = "false") boolean everywhere
+    ) {
+        refreshTokenService.logout(request.getRefreshToken(), everywhere);
+        return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package lk.ijse.cmjd.researchtracker.auth;
 
+import lk.ijse.cmjd.researchtracker.user.CustomUserDetails;
 import lk.ijse.cmjd.researchtracker.user.User;
 import lk.ijse.cmjd.researchtracker.user.UserRepository;
 import lk.ijse.cmjd.researchtracker.user.UserRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,15 +13,19 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
+    private final LoginExecutor loginExecutor;
+    private final RefreshTokenService refreshTokenService;
 
+    @CacheEvict(cacheNames = "userLists", allEntries = true)
     public void register(RegisterRequest request) {
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new RuntimeException("Username already taken");
@@ -34,14 +40,18 @@ public class AuthService {
         userRepository.save(user);
     }
 
-    public String login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
-        );
-        if (!authentication.isAuthenticated()) {
-            throw new UsernameNotFoundException("Invalid user request!");
-        }
-        User user = userRepository.findByUsername(request.getUsername());
-        return jwtUtil.generateToken(user.getUsername(), user.getRole().name());
+    // Password verification runs on the login executor, off the request thread
+    public CompletableFuture<TokenResponse> login(LoginRequest request) {
+        return loginExecutor.submit(() -> {
+            Authentication authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
+            );
+            if (!authentication.isAuthenticated()) {
+                throw new UsernameNotFoundException("Invalid user request!");
+            }
+            // The principal carries the user loaded during authentication, so no second lookup
+            User user = ((CustomUserDetails) authentication.getPrincipal()).getUser();
+            return refreshTokenService.openSession(user);
+        });
     }
 }
\ No newline at end of file
@@ -1,12 +1,15 @@
 package lk.ijse.cmjd.researchtracker.auth;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lk.ijse.cmjd.researchtracker.user.CustomUserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -14,6 +17,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -24,6 +29,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // When enabled, authorities come from the verified token instead of a user lookup
+    @Value("${jwt.stateless:true}")
+    private boolean stateless;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -36,32 +51,53 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 2. Extract JWT from the Authorization header
+        // 2. Extract and verify the JWT from the Authorization header (one parse per request)
         final String authHeader = request.getHeader("Authorization");
-        String username = null;
-        String jwt = null;
+        VerifiedToken token = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
-            username = jwtUtil.extractUsername(jwt);
+            long start = System.nanoTime();
+            token = jwtUtil.verify(authHeader.substring(7)).orElse(null);
+            meterRegistry.timer("auth.jwt.verify", "outcome", token != null ? "valid" : "invalid")
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
 
-        // 3. Validate token and set authentication
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-            if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities()
-                        );
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+        // 3. Set authentication
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (stateless) {
+                authenticateFromClaims(request, token);
+            } else {
+                authenticateFromUserDetails(request, token);
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private void authenticateFromUserDetails(HttpServletRequest request, VerifiedToken token) {
+        UserDetails userDetails = this.userDetailsService.loadUserByUsername(token.username());
+
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities()
+                );
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+
+    private void authenticateFromClaims(HttpServletRequest request, VerifiedToken token) {
+        if (token.role() == null || !tokenVersionRegistry.isCurrent(token.username(), token.version())) {
+            return;
+        }
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(
+                        token.username(), null, List.of(new SimpleGrantedAuthority("ROLE_" + token.role()))
+                );
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
\ No newline at end of file
@@ -1,38 +1,137 @@
 package lk.ijse.cmjd.researchtracker.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
     // Use a secure, long key (at least 32 chars!)
     private static final String JWT_SECRET = "MyUltraSecureSuperLongSecretKey123456!@#";
-    private static final long JWT_EXPIRATION = 1000 * 60 * 60 * 24; // 24 hours
+    private static final String ACCESS = "access";
+    private static final String REFRESH = "refresh";
+    private static final int VERIFIED_CACHE_MAX_SIZE = 10_000;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8));
-    }
+    // Key and parser are immutable and thread-safe, so build them once
+    private final SecretKey signingKey = Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8));
+    private final JwtParser parser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
+
+    // Access tokens are short-lived; sessions are extended through refresh tokens
+    @Value("${jwt.access-token-ttl:15m}")
+    private Duration accessTokenTtl = Duration.ofMinutes(15);
+
+    @Value("${jwt.refresh-token-ttl:14d}")
+    private Duration refreshTokenTtl = Duration.ofDays(14);
+
+    // SHA-256 of the raw token -> already verified token. Bounded, and each entry expires with its
+    // token, so a full cache evicts instead of scanning
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_CACHE_MAX_SIZE)
+            .expireAfter(Expiry.writing((String key, VerifiedToken token) -> remainingLifetime(token)))
+            .build();
 
     public String generateToken(String username, String role) {
+        return generateToken(username, role, 0);
+    }
+
+    public String generateToken(String username, String role, int tokenVersion) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("role", role);
+        claims.put("ver", tokenVersion);
+        claims.put("typ", ACCESS);
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(username)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setExpiration(Date.from(Instant.now().plus(accessTokenTtl)))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    // Refresh tokens name their session and position in it; they are never accepted as access tokens
+    public String generateRefreshToken(String username, int tokenVersion, String sessionId, int sequence,
+                                       Instant expiresAt) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("ver", tokenVersion);
+        claims.put("typ", REFRESH);
+        claims.put("sid", sessionId);
+        claims.put("seq", sequence);
+        return Jwts.builder()
+                .setClaims(claims)
+                .setSubject(username)
+                .setIssuedAt(new Date())
+                .setExpiration(Date.from(expiresAt))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public Optional<VerifiedRefreshToken> verifyRefreshToken(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            String sessionId = claims.get("sid", String.class);
+            Integer sequence = claims.get("seq", Integer.class);
+            if (!REFRESH.equals(claims.get("typ")) || sessionId == null || sequence == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new VerifiedRefreshToken(claims.getSubject(), tokenVersion(claims), sessionId, sequence));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    public Duration getRefreshTokenTtl() {
+        return refreshTokenTtl;
+    }
+
+    /**
+     * Verifies the signature and expiry of a token in a single parse. Tokens seen before
+     * are answered from the cache without touching the signature again.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        Instant now = Instant.now();
+        String key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(key);
+            return Optional.empty();
+        }
+
+        VerifiedToken verified;
+        try {
+            verified = toVerifiedToken(extractAllClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        verifiedTokens.put(key, verified);
+        return Optional.of(verified);
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -42,6 +141,10 @@ public class JwtUtil {
         return claims.get("role").toString();
     }
 
+    public int extractTokenVersion(String token) {
+        return tokenVersion(extractAllClaims(token));
+    }
+
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
@@ -52,19 +155,51 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return verify(token).isEmpty();
     }
 
     public boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        return verify(token)
+                .map(verified -> verified.username().equals(username))
+                .orElse(false);
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("Token has no expiration");
+        }
+        if (REFRESH.equals(claims.get("typ"))) {
+            throw new MalformedJwtException("Refresh token used as access token");
+        }
+        Object role = claims.get("role");
+        return new VerifiedToken(
+                claims.getSubject(),
+                role != null ? role.toString() : null,
+                tokenVersion(claims),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    private int tokenVersion(Claims claims) {
+        Integer version = claims.get("ver", Integer.class);
+        return version != null ? version : 0;
+    }
+
+    private static Duration remainingLifetime(VerifiedToken token) {
+        Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,8 @@
+package lk.ijse.cmjd.researchtracker.auth;
+
+import lombok.Data;
+
+@Data
+public class RefreshRequest {
+    private String refreshToken;
+}
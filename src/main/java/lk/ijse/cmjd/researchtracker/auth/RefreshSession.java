@@ -0,0 +1,29 @@
+package lk.ijse.cmjd.researchtracker.auth;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// Persisted copy of a refresh session; sequence is the position of the only refresh token still valid
+@Entity
+@Table(name = "refresh_sessions", indexes = {
+        @Index(name = "idx_refresh_sessions_expires_at", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshSession {
+
+    @Id
+    private String id;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private int sequence;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
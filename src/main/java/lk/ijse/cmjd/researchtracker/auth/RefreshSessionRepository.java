@@ -0,0 +1,15 @@
+package lk.ijse.cmjd.researchtracker.auth;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface RefreshSessionRepository extends JpaRepository<RefreshSession, String> {
+
+    @Modifying
+    @Query("delete from RefreshSession s where s.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,141 @@
+package lk.ijse.cmjd.researchtracker.auth;
+
+import jakarta.annotation.PostConstruct;
+import lk.ijse.cmjd.researchtracker.user.User;
+import lk.ijse.cmjd.researchtracker.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Rotating refresh tokens. Each login opens a session; every refresh hands out the next token
+ * of the session and retires the one presented. A retired token coming back means it was
+ * copied, so the whole session is ended. Sessions are kept in memory and written through to
+ * refresh_sessions, so they survive a restart.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshSessionRepository refreshSessionRepository;
+    private final UserRepository userRepository;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final JwtUtil jwtUtil;
+
+    private final ConcurrentMap<String, SessionState> sessions = new ConcurrentHashMap<>();
+
+    // Immutable, so a rotation is a single compare-and-set on the map
+    private record SessionState(String username, int sequence, Instant expiresAt) {
+    }
+
+    @PostConstruct
+    void load() {
+        Instant now = Instant.now();
+        refreshSessionRepository.findAll().stream()
+                .filter(s -> s.getExpiresAt().isAfter(now))
+                .forEach(s -> sessions.put(s.getId(), new SessionState(s.getUsername(), s.getSequence(), s.getExpiresAt())));
+    }
+
+    public TokenResponse openSession(User user) {
+        String sessionId = UUID.randomUUID().toString();
+        SessionState state = new SessionState(user.getUsername(), 0, Instant.now().plus(jwtUtil.getRefreshTokenTtl()));
+        save(sessionId, state);
+        sessions.put(sessionId, state);
+        return tokens(user, sessionId, state);
+    }
+
+    public TokenResponse refresh(String refreshToken) {
+        VerifiedRefreshToken token = verify(refreshToken);
+        SessionState current = sessions.get(token.sessionId());
+        if (current == null || !current.username().equals(token.username()) || !current.expiresAt().isAfter(Instant.now())) {
+            throw unauthorized("Session expired");
+        }
+        if (current.sequence() != token.sequence()) {
+            endSession(token.sessionId());
+            throw unauthorized("Refresh token already used, session ended");
+        }
+        if (!tokenVersionRegistry.isCurrent(token.username(), token.version())) {
+            endSession(token.sessionId());
+            throw unauthorized("Session revoked");
+        }
+        User user = userRepository.findByUsername(token.username());
+        if (user == null) {
+            endSession(token.sessionId());
+            throw unauthorized("User not found");
+        }
+
+        SessionState next = new SessionState(current.username(), current.sequence() + 1,
+                Instant.now().plus(jwtUtil.getRefreshTokenTtl()));
+        // Two refreshes with the same token race here; only one of them rotates the session
+        if (!sessions.replace(token.sessionId(), current, next)) {
+            throw unauthorized("Refresh token already used");
+        }
+        try {
+            save(token.sessionId(), next);
+        } catch (RuntimeException e) {
+            // Not stored, so the presented token must stay the valid one
+            sessions.replace(token.sessionId(), next, current);
+            throw e;
+        }
+        return tokens(user, token.sessionId(), next);
+    }
+
+    // Ends the session of the given token; with everywhere, also revokes every other token of the user
+    public void logout(String refreshToken, boolean everywhere) {
+        jwtUtil.verifyRefreshToken(refreshToken).ifPresent(token -> {
+            endSession(token.sessionId());
+            if (everywhere) {
+                tokenVersionRegistry.revokeAll(token.username());
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-session-purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpiredSessions() {
+        Instant now = Instant.now();
+        sessions.values().removeIf(state -> !state.expiresAt().isAfter(now));
+        refreshSessionRepository.deleteExpired(now);
+    }
+
+    private VerifiedRefreshToken verify(String refreshToken) {
+        if (refreshToken == null) {
+            throw unauthorized("Refresh token missing");
+        }
+        return jwtUtil.verifyRefreshToken(refreshToken)
+                .orElseThrow(() -> unauthorized("Invalid refresh token"));
+    }
+
+    private TokenResponse tokens(User user, String sessionId, SessionState state) {
+        int version = tokenVersionRegistry.currentVersion(user.getUsername());
+        return new TokenResponse(
+                jwtUtil.generateToken(user.getUsername(), user.getRole().name(), version),
+                jwtUtil.generateRefreshToken(user.getUsername(), version, sessionId, state.sequence(), state.expiresAt()),
+                jwtUtil.getAccessTokenTtl().toSeconds()
+        );
+    }
+
+    private void save(String sessionId, SessionState state) {
+        refreshSessionRepository.save(new RefreshSession(sessionId, state.username(), state.sequence(), state.expiresAt()));
+    }
+
+    // The row goes first; a session dropped only from memory would come back on restart
+    private void endSession(String sessionId) {
+        if (sessions.containsKey(sessionId)) {
+            refreshSessionRepository.deleteById(sessionId);
+            sessions.remove(sessionId);
+        }
+    }
+
+    private static ResponseStatusException unauthorized(String reason) {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, reason);
+    }
+}
@@ -0,0 +1,5 @@
+package lk.ijse.cmjd.researchtracker.auth;
+
+// Returned by login and refresh; expiresIn is the access token lifetime in seconds
+public record TokenResponse(String accessToken, String refreshToken, long expiresIn) {
+}
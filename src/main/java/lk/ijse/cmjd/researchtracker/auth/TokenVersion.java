@@ -0,0 +1,19 @@
+package lk.ijse.cmjd.researchtracker.auth;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Persisted copy of TokenVersionRegistry; only users whose tokens were ever revoked have a row
+@Entity
+@Table(name = "token_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenVersion {
+
+    @Id
+    private String username;
+
+    @Column(nullable = false)
+    private int version;
+}
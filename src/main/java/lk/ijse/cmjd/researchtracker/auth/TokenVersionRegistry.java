@@ -0,0 +1,53 @@
+package lk.ijse.cmjd.researchtracker.auth;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory per-user token version. Every token carries the version that was current
+ * when it was issued; bumping a user's version invalidates all of their outstanding
+ * tokens without a database lookup on the request path. Changes are written through
+ * to token_versions and reloaded on startup.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenVersionRegistry {
+
+    private final TokenVersionRepository tokenVersionRepository;
+
+    private final ConcurrentMap<String, Integer> versions = new ConcurrentHashMap<>();
+
+    // Revocations are rare; the lock keeps the stored version in step with the map. The row is
+    // written first, so a failed write leaves the old version in effect everywhere
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @PostConstruct
+    void load() {
+        tokenVersionRepository.findAll().forEach(v -> versions.put(v.getUsername(), v.getVersion()));
+    }
+
+    public int currentVersion(String username) {
+        return versions.getOrDefault(username, 0);
+    }
+
+    public boolean isCurrent(String username, int version) {
+        return currentVersion(username) == version;
+    }
+
+    // Invalidate every access and refresh token issued so far for this user
+    public void revokeAll(String username) {
+        writeLock.lock();
+        try {
+            int version = currentVersion(username) + 1;
+            tokenVersionRepository.save(new TokenVersion(username, version));
+            versions.put(username, version);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
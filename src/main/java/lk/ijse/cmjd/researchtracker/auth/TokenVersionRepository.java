@@ -0,0 +1,6 @@
+package lk.ijse.cmjd.researchtracker.auth;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TokenVersionRepository extends JpaRepository<TokenVersion, String> {
+}
@@ -0,0 +1,8 @@
+package lk.ijse.cmjd.researchtracker.auth;
+
+/**
+ * Claims of a refresh token whose signature and expiry have been checked. Whether it is still the
+ * current token of its session is up to {@link RefreshTokenService}.
+ */
+public record VerifiedRefreshToken(String username, int version, String sessionId, int sequence) {
+}
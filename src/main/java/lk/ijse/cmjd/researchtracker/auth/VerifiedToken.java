@@ -0,0 +1,13 @@
+package lk.ijse.cmjd.researchtracker.auth;
+
+import java.time.Instant;
+
+/**
+ * Immutable view of a JWT whose signature and expiry have already been checked.
+ */
+public record VerifiedToken(String username, String role, int version, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
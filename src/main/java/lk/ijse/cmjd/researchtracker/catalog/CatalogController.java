@@ -0,0 +1,91 @@
+package lk.ijse.cmjd.researchtracker.catalog;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/catalog")
+@RequiredArgsConstructor
+public class CatalogController {
+    private final CatalogImportService catalogImportService;
+    private final CatalogExportService catalogExportService;
+    private final ExportLimiter exportLimiter;
+
+    // --- Bulk import: the body is CSV with a header row, or NDJSON, read as it streams in ---
+    @PostMapping(value = "/import/projects", consumes = {ImportReader.TEXT_CSV_VALUE, ImportReader.NDJSON_VALUE})
+    @PreAuthorize("hasAnyRole('ADMIN', 'PI')")
+    public ResponseEntity<ImportResult> importProjects(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(catalogImportService.importProjects(request.getInputStream(), contentType(request)));
+    }
+
+    @PostMapping(value = "/import/milestones", consumes = {ImportReader.TEXT_CSV_VALUE, ImportReader.NDJSON_VALUE})
+    @PreAuthorize("hasAnyRole('ADMIN', 'PI', 'MEMBER')")
+    public ResponseEntity<ImportResult> importMilestones(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(catalogImportService.importMilestones(request.getInputStream(), contentType(request)));
+    }
+
+    @PostMapping(value = "/import/members", consumes = {ImportReader.TEXT_CSV_VALUE, ImportReader.NDJSON_VALUE})
+    @PreAuthorize("hasAnyRole('ADMIN', 'PI')")
+    public ResponseEntity<ImportResult> importMembers(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(catalogImportService.importMembers(request.getInputStream(), contentType(request)));
+    }
+
+    // --- Export: rows are written to the response as they are read from the database ---
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PI')")
+    public void exportCatalogue(HttpServletResponse response) throws IOException {
+        try (ExportLimiter.Permit permit = exportLimiter.acquire()) {
+            startDownload(response, ExportFormat.NDJSON, "catalogue");
+            catalogExportService.exportCatalogue(response.getOutputStream());
+        }
+    }
+
+    @GetMapping("/export/projects")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PI')")
+    public void exportProjects(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                               HttpServletResponse response) throws IOException {
+        try (ExportLimiter.Permit permit = exportLimiter.acquire()) {
+            startDownload(response, format, "projects");
+            catalogExportService.exportProjects(format, response.getOutputStream());
+        }
+    }
+
+    @GetMapping("/export/milestones")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PI')")
+    public void exportMilestones(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                 HttpServletResponse response) throws IOException {
+        try (ExportLimiter.Permit permit = exportLimiter.acquire()) {
+            startDownload(response, format, "milestones");
+            catalogExportService.exportMilestones(format, response.getOutputStream());
+        }
+    }
+
+    @GetMapping("/export/documents")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PI')")
+    public void exportDocuments(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                HttpServletResponse response) throws IOException {
+        try (ExportLimiter.Permit permit = exportLimiter.acquire()) {
+            startDownload(response, format, "documents");
+            catalogExportService.exportDocuments(format, response.getOutputStream());
+        }
+    }
+
+    private static void startDownload(HttpServletResponse response, ExportFormat format, String name) {
+        response.setContentType(format.getMediaType().toString() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension()).build().toString());
+    }
+
+    private static MediaType contentType(HttpServletRequest request) {
+        return MediaType.parseMediaType(request.getContentType());
+    }
+}
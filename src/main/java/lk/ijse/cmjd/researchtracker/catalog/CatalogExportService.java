@@ -0,0 +1,79 @@
+package lk.ijse.cmjd.researchtracker.catalog;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lk.ijse.cmjd.researchtracker.document.DocumentExportRow;
+import lk.ijse.cmjd.researchtracker.document.DocumentRepository;
+import lk.ijse.cmjd.researchtracker.milestone.MilestoneExportRow;
+import lk.ijse.cmjd.researchtracker.milestone.MilestoneRepository;
+import lk.ijse.cmjd.researchtracker.project.ProjectExportRow;
+import lk.ijse.cmjd.researchtracker.project.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streams the catalogue from forward-only database cursors straight into the response, one row at
+ * a time, so exporting a million rows needs no more heap than exporting a hundred. Each export runs
+ * in one read-only transaction, which keeps the cursor open while the response is written.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogExportService {
+    private final ProjectRepository projectRepository;
+    private final MilestoneRepository milestoneRepository;
+    private final DocumentRepository documentRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportProjects(ExportFormat format, OutputStream out) throws IOException {
+        export(format, ProjectExportRow.class, projectRepository::streamExportRows, out);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportMilestones(ExportFormat format, OutputStream out) throws IOException {
+        export(format, MilestoneExportRow.class, milestoneRepository::streamExportRows, out);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportDocuments(ExportFormat format, OutputStream out) throws IOException {
+        export(format, DocumentExportRow.class, documentRepository::streamExportRows, out);
+    }
+
+    // Projects, then milestones, then documents in one NDJSON stream; a "type" field tells the lines apart
+    @Transactional(readOnly = true)
+    public void exportCatalogue(OutputStream out) throws IOException {
+        try (ExportWriter writer = new ExportWriter.Ndjson(out, objectMapper)) {
+            writeAll(projectRepository::streamExportRows, row -> new TypedRow("project", row), writer);
+            writeAll(milestoneRepository::streamExportRows, row -> new TypedRow("milestone", row), writer);
+            writeAll(documentRepository::streamExportRows, row -> new TypedRow("document", row), writer);
+        }
+    }
+
+    private <T extends Record> void export(ExportFormat format, Class<T> rowType, Supplier<Stream<T>> rows,
+                                           OutputStream out) throws IOException {
+        try (ExportWriter writer = ExportWriter.open(format, rowType, out, objectMapper)) {
+            writeAll(rows, row -> row, writer);
+        }
+    }
+
+    private static <T> void writeAll(Supplier<Stream<T>> rows, Function<? super T, ?> mapper, ExportWriter writer)
+            throws IOException {
+        try (Stream<T> stream = rows.get()) {
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writer.write(mapper.apply(iterator.next()));
+            }
+        }
+    }
+
+    private record TypedRow(String type, @JsonUnwrapped Object row) {
+    }
+}
@@ -0,0 +1,253 @@
+package lk.ijse.cmjd.researchtracker.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lk.ijse.cmjd.researchtracker.milestone.Milestone;
+import lk.ijse.cmjd.researchtracker.project.Project;
+import lk.ijse.cmjd.researchtracker.project.ProjectRepository;
+import lk.ijse.cmjd.researchtracker.search.SearchIndex;
+import lk.ijse.cmjd.researchtracker.user.User;
+import lk.ijse.cmjd.researchtracker.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Streaming bulk import of projects, milestones and project members from CSV (header row first)
+ * or NDJSON. Rows are written in chunks of {@value #CHUNK_SIZE}, one transaction each, so inserts
+ * go out as JDBC batches and memory stays flat however large the file is. A bad row is reported
+ * against its line and skipped; it does not abort the rest of the import.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogImportService {
+
+    // Matches spring.jpa.properties.hibernate.jdbc.batch_size, so a chunk flushes as full batches
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final SearchIndex searchIndex;
+    private final ObjectMapper objectMapper;
+
+    // Columns: id (optional), title, summary, status, piUsername, tags, startDate, endDate
+    @CacheEvict(cacheNames = "projectPages", allEntries = true)
+    public ImportResult importProjects(InputStream body, MediaType contentType) throws IOException {
+        ImportLookups lookups = new ImportLookups(userRepository, projectRepository, "piUsername", "id");
+        return run(body, contentType, lookups, this::writeProject, written -> {
+        }, written -> written.forEach(searchIndex::indexProject));
+    }
+
+    // Columns: projectId, title, description, dueDate, completed, creatorUsername
+    @CacheEvict(cacheNames = "milestones", allEntries = true)
+    public ImportResult importMilestones(InputStream body, MediaType contentType) throws IOException {
+        ImportLookups lookups = new ImportLookups(userRepository, projectRepository, "creatorUsername", "projectId");
+        return run(body, contentType, lookups, this::writeMilestone, written -> {
+        }, written -> written.forEach(searchIndex::indexMilestone));
+    }
+
+    // Columns: projectId, username. Existing memberships are left as they are
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "projects", allEntries = true),
+            @CacheEvict(cacheNames = "projectPages", allEntries = true)
+    })
+    public ImportResult importMembers(InputStream body, MediaType contentType) throws IOException {
+        ImportLookups lookups = new ImportLookups(userRepository, projectRepository, "username", "projectId");
+        return run(body, contentType, lookups, this::resolveMember, this::insertMembers, written -> {
+        });
+    }
+
+    private Project writeProject(ImportRow row, ImportLookups lookups) {
+        String id = row.get("id");
+        if (id != null && lookups.projectExists(id)) throw new ImportException("Project already exists: " + id);
+        Project project = new Project();
+        project.setId(id);
+        project.setTitle(text(row, "title", 255, true));
+        project.setSummary(text(row, "summary", 1000, false));
+        project.setStatus(row.get("status") != null ? status(row.get("status")) : Project.Status.PLANNING);
+        project.setPi(entityManager.getReference(User.class, lookups.userId(row.require("piUsername"))));
+        project.setTags(text(row, "tags", 255, false));
+        project.setStartDate(date(row, "startDate"));
+        project.setEndDate(date(row, "endDate"));
+        entityManager.persist(project);
+        lookups.addProject(project.getId());
+        return project;
+    }
+
+    private Milestone writeMilestone(ImportRow row, ImportLookups lookups) {
+        String projectId = row.require("projectId");
+        lookups.requireProject(projectId);
+        Milestone milestone = new Milestone();
+        milestone.setId(UUID.randomUUID().toString());
+        milestone.setProject(entityManager.getReference(Project.class, projectId));
+        milestone.setTitle(text(row, "title", 255, true));
+        milestone.setDescription(text(row, "description", 255, false));
+        milestone.setDueDate(date(row, "dueDate"));
+        milestone.setCompleted(bool(row, "completed"));
+        milestone.setCreatedBy(entityManager.getReference(User.class, lookups.userId(row.require("creatorUsername"))));
+        milestone.setCreatedAt(LocalDateTime.now());
+        entityManager.persist(milestone);
+        return milestone;
+    }
+
+    private Membership resolveMember(ImportRow row, ImportLookups lookups) {
+        String projectId = row.require("projectId");
+        lookups.requireProject(projectId);
+        return new Membership(projectId, lookups.userId(row.require("username")));
+    }
+
+    // One set-based insert per project in the chunk
+    private void insertMembers(List<Membership> memberships) {
+        Map<String, List<String>> byProject = new LinkedHashMap<>();
+        for (Membership membership : memberships) {
+            byProject.computeIfAbsent(membership.projectId(), id -> new ArrayList<>()).add(membership.userId());
+        }
+        byProject.forEach(projectRepository::insertMembers);
+    }
+
+    private record Membership(String projectId, String userId) {
+    }
+
+    /**
+     * Reads the body row by row and writes each chunk in its own transaction: {@code writeRow} turns a
+     * row into a persisted entity (or throws {@link ImportException}), {@code writeChunk} runs in the same
+     * transaction once the chunk's rows are written and {@code afterCommit} once it has committed.
+     * If the database rejects a chunk, all of its rows are reported as failed.
+     */
+    private <T> ImportResult run(InputStream body, MediaType contentType, ImportLookups lookups,
+                                 BiFunction<ImportRow, ImportLookups, T> writeRow,
+                                 Consumer<List<T>> writeChunk, Consumer<List<T>> afterCommit) throws IOException {
+        Report report = new Report();
+        try (ImportReader reader = ImportReader.open(body, contentType, objectMapper)) {
+            List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                if (row.error() != null) {
+                    report.fail(row.line(), row.error());
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(chunk, lookups, writeRow, writeChunk, afterCommit, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, lookups, writeRow, writeChunk, afterCommit, report);
+            }
+        }
+        return report.toResult();
+    }
+
+    private <T> void writeChunk(List<ImportRow> rows, ImportLookups lookups,
+                                BiFunction<ImportRow, ImportLookups, T> writeRow,
+                                Consumer<List<T>> writeChunk, Consumer<List<T>> afterCommit, Report report) {
+        lookups.prefetch(rows);
+        List<ImportRow> accepted = new ArrayList<>();
+        List<ImportResult.RowError> rejected = new ArrayList<>();
+        List<T> written;
+        try {
+            written = transactionTemplate.execute(status -> {
+                List<T> entities = new ArrayList<>();
+                for (ImportRow row : rows) {
+                    try {
+                        entities.add(writeRow.apply(row, lookups));
+                        accepted.add(row);
+                    } catch (ImportException e) {
+                        rejected.add(new ImportResult.RowError(row.line(), e.getMessage()));
+                    }
+                }
+                writeChunk.accept(entities);
+                // The request may share this persistence context (open-in-view); detach the chunk so
+                // later flushes do not dirty-check every row imported so far
+                entityManager.flush();
+                entityManager.clear();
+                return entities;
+            });
+        } catch (DataAccessException | TransactionSystemException | PersistenceException e) {
+            lookups.forgetProjects();
+            rejected.forEach(error -> report.fail(error.line(), error.message()));
+            String message = "Chunk rejected by the database: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            accepted.forEach(row -> report.fail(row.line(), message));
+            return;
+        }
+        report.imported += accepted.size();
+        rejected.forEach(error -> report.fail(error.line(), error.message()));
+        afterCommit.accept(written);
+    }
+
+    private static String text(ImportRow row, String column, int maxLength, boolean required) {
+        String value = required ? row.require(column) : row.get(column);
+        if (value != null && value.length() > maxLength) {
+            throw new ImportException(column + " is longer than " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    private static Project.Status status(String value) {
+        try {
+            return Project.Status.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ImportException("Invalid status: " + value);
+        }
+    }
+
+    private static LocalDate date(ImportRow row, String column) {
+        String value = row.get(column);
+        if (value == null) return null;
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ImportException("Invalid " + column + ", expected yyyy-MM-dd: " + value);
+        }
+    }
+
+    private static boolean bool(ImportRow row, String column) {
+        String value = row.get(column);
+        if (value == null) return false;
+        if (value.equalsIgnoreCase("true")) return true;
+        if (value.equalsIgnoreCase("false")) return false;
+        throw new ImportException("Invalid " + column + ", expected true or false: " + value);
+    }
+
+    private static final class Report {
+        private long imported;
+        private long failed;
+        private final List<ImportResult.RowError> errors = new ArrayList<>();
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportResult.RowError(line, message));
+            }
+        }
+
+        ImportResult toResult() {
+            return new ImportResult(imported, failed, errors);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package lk.ijse.cmjd.researchtracker.catalog;
+
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    NDJSON(ImportReader.NDJSON_VALUE, "ndjson"),
+    CSV(ImportReader.TEXT_CSV_VALUE, "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,51 @@
+package lk.ijse.cmjd.researchtracker.catalog;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Caps concurrent catalogue exports. Each export keeps a pooled connection for as long as the
+ * client takes to download, so without a cap a few slow downloads could drain the pool for every
+ * other request. A permit is taken before the export transaction opens; when none is free the
+ * request is rejected with 429 rather than queued.
+ */
+@Component
+public class ExportLimiter {
+
+    private final Semaphore permits;
+
+    public ExportLimiter(@Value("${catalog.export.max-concurrent:2}") int maxConcurrent) {
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    public Permit acquire() {
+        if (!permits.tryAcquire()) {
+            throw new SaturatedException();
+        }
+        return permits::release;
+    }
+
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    static class SaturatedException extends ResponseStatusException {
+
+        SaturatedException() {
+            super(HttpStatus.TOO_MANY_REQUESTS, "Too many exports in progress, try again later");
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "30");
+            return headers;
+        }
+    }
+}
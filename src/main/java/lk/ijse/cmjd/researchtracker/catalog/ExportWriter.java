@@ -0,0 +1,100 @@
+package lk.ijse.cmjd.researchtracker.catalog;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+
+// Writes export rows as they are read from the cursor. Output is buffered but never flushed per row,
+// so the servlet container sends it in full chunks
+abstract class ExportWriter implements Closeable {
+
+    abstract void write(Object row) throws IOException;
+
+    static ExportWriter open(ExportFormat format, Class<? extends Record> rowType, OutputStream out,
+                             ObjectMapper objectMapper) throws IOException {
+        return format == ExportFormat.CSV ? new Csv(rowType, out) : new Ndjson(out, objectMapper);
+    }
+
+    // One JSON object per line
+    static final class Ndjson extends ExportWriter {
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+
+        Ndjson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+            this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        void write(Object row) throws IOException {
+            writer.writeValue(generator, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    // Header row from the record's component names, then one line per row (RFC 4180 quoting)
+    static final class Csv extends ExportWriter {
+        private final RecordComponent[] columns;
+        private final BufferedWriter out;
+
+        Csv(Class<? extends Record> rowType, OutputStream out) throws IOException {
+            this.columns = rowType.getRecordComponents();
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) this.out.write(',');
+                this.out.write(columns[i].getName());
+            }
+            this.out.write("\r\n");
+        }
+
+        @Override
+        void write(Object row) throws IOException {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) out.write(',');
+                Object value;
+                try {
+                    value = columns[i].getAccessor().invoke(row);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException(e);
+                }
+                if (value != null) writeField(value.toString());
+            }
+            out.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        }
+
+        // Flushes what is buffered; the response stream itself belongs to the container
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
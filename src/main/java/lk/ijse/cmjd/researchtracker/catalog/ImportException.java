@@ -0,0 +1,9 @@
+package lk.ijse.cmjd.researchtracker.catalog;
+
+// A row that cannot be imported; reported against its line and the import carries on
+class ImportException extends RuntimeException {
+
+    ImportException(String message) {
+        super(message);
+    }
+}
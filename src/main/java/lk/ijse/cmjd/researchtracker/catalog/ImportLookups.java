@@ -0,0 +1,76 @@
+package lk.ijse.cmjd.researchtracker.catalog;
+
+import lk.ijse.cmjd.researchtracker.project.ProjectRepository;
+import lk.ijse.cmjd.researchtracker.user.UserRepository;
+import lk.ijse.cmjd.researchtracker.user.UserSummary;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Per-import cache of usernames and project ids. Keys are resolved a chunk at a time with one
+// IN query for the ones not seen yet, so each distinct user or project is looked up once per import
+class ImportLookups {
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final String userColumn;
+    private final String projectColumn;
+
+    // A key mapped to null was looked up and does not exist
+    private final Map<String, String> userIds = new HashMap<>();
+    private final Map<String, Boolean> projects = new HashMap<>();
+
+    ImportLookups(UserRepository userRepository, ProjectRepository projectRepository,
+                  String userColumn, String projectColumn) {
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.userColumn = userColumn;
+        this.projectColumn = projectColumn;
+    }
+
+    void prefetch(List<ImportRow> rows) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> projectIds = new HashSet<>();
+        for (ImportRow row : rows) {
+            String username = userColumn != null ? row.get(userColumn) : null;
+            if (username != null && !userIds.containsKey(username)) usernames.add(username);
+            String projectId = projectColumn != null ? row.get(projectColumn) : null;
+            if (projectId != null && !projects.containsKey(projectId)) projectIds.add(projectId);
+        }
+        if (!usernames.isEmpty()) {
+            usernames.forEach(username -> userIds.put(username, null));
+            for (UserSummary user : userRepository.findSummariesByUsernameIn(usernames)) {
+                userIds.put(user.username(), user.id());
+            }
+        }
+        if (!projectIds.isEmpty()) {
+            projectIds.forEach(id -> projects.put(id, false));
+            projectRepository.findExistingIds(projectIds).forEach(id -> projects.put(id, true));
+        }
+    }
+
+    String userId(String username) {
+        String id = userIds.get(username);
+        if (id == null) throw new ImportException("User not found: " + username);
+        return id;
+    }
+
+    boolean projectExists(String projectId) {
+        return Boolean.TRUE.equals(projects.get(projectId));
+    }
+
+    void requireProject(String projectId) {
+        if (!projectExists(projectId)) throw new ImportException("Project not found: " + projectId);
+    }
+
+    // Projects created by this import; forgotten again if their chunk rolls back
+    void addProject(String projectId) {
+        projects.put(projectId, true);
+    }
+
+    void forgetProjects() {
+        projects.clear();
+    }
+}
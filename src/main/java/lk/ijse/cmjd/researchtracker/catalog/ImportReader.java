@@ -0,0 +1,158 @@
+package lk.ijse.cmjd.researchtracker.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Reads an import body one record at a time, so a file of any size is never held in memory
+abstract class ImportReader implements Closeable {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+    static final String NDJSON_VALUE = "application/x-ndjson";
+
+    protected final BufferedReader reader;
+
+    private ImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static ImportReader open(InputStream body, MediaType contentType, ObjectMapper objectMapper) throws IOException {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+        if (contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))) {
+            return new Csv(reader);
+        }
+        if (contentType.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE))) {
+            return new Ndjson(reader, objectMapper);
+        }
+        throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                "Expected " + TEXT_CSV_VALUE + " or " + NDJSON_VALUE);
+    }
+
+    // Next record, or null at the end of the body
+    abstract ImportRow next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // Header row of column names, then one record per row. Quoted fields may contain commas,
+    // doubled quotes and line breaks (RFC 4180)
+    private static final class Csv extends ImportReader {
+        private final List<String> header = new ArrayList<>();
+        private long line = 1;
+
+        Csv(BufferedReader reader) throws IOException {
+            super(reader);
+            List<String> names = readRecord();
+            if (names != null) {
+                names.forEach(name -> header.add(name.replace("\uFEFF", "").trim()));
+            }
+        }
+
+        @Override
+        ImportRow next() throws IOException {
+            while (true) {
+                long start = line;
+                List<String> fields;
+                try {
+                    fields = readRecord();
+                } catch (ImportException e) {
+                    return ImportRow.failed(start, e.getMessage());
+                }
+                if (fields == null) return null;
+                if (fields.size() == 1 && fields.get(0).isEmpty()) continue;
+                if (fields.size() > header.size()) {
+                    return ImportRow.failed(start, "Expected " + header.size() + " columns but found " + fields.size());
+                }
+                Map<String, String> values = new HashMap<>();
+                for (int i = 0; i < fields.size(); i++) {
+                    values.put(header.get(i), fields.get(i));
+                }
+                return ImportRow.of(start, values);
+            }
+        }
+
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) return null;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) throw new ImportException("Unterminated quoted field");
+                    if (c == '"') {
+                        c = reader.read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    } else if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    if (c == '\n') line++;
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+    }
+
+    // One JSON object per line; a malformed line fails that row only
+    private static final class Ndjson extends ImportReader {
+        private final ObjectMapper objectMapper;
+        private long line;
+
+        Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        ImportRow next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) continue;
+                try {
+                    JsonNode node = objectMapper.readTree(text);
+                    if (!node.isObject()) return ImportRow.failed(line, "Expected a JSON object");
+                    Map<String, String> values = new HashMap<>();
+                    node.properties().forEach(field ->
+                            values.put(field.getKey(), field.getValue().isNull() ? null : field.getValue().asText()));
+                    return ImportRow.of(line, values);
+                } catch (JsonProcessingException e) {
+                    return ImportRow.failed(line, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package lk.ijse.cmjd.researchtracker.catalog;
+
+import java.util.List;
+
+// Outcome of a bulk import; only the first errors are listed, {@code failed} counts all of them
+public record ImportResult(long imported, long failed, List<RowError> errors) {
+
+    public record RowError(long line, String message) {
+    }
+}
@@ -0,0 +1,29 @@
+package lk.ijse.cmjd.researchtracker.catalog;
+
+import java.util.Map;
+
+// One record of an import file; {@code error} is set instead of values when the record could not be parsed
+record ImportRow(long line, Map<String, String> values, String error) {
+
+    static ImportRow of(long line, Map<String, String> values) {
+        return new ImportRow(line, values, null);
+    }
+
+    static ImportRow failed(long line, String error) {
+        return new ImportRow(line, Map.of(), error);
+    }
+
+    // Trimmed value of a column, or null when it is missing or blank
+    String get(String column) {
+        String value = values.get(column);
+        if (value == null) return null;
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    String require(String column) {
+        String value = get(column);
+        if (value == null) throw new ImportException(column + " is required");
+        return value;
+    }
+}
@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "documents")
+@Table(name = "documents", indexes = {
+        @Index(name = "idx_documents_content_hash", columnList = "content_hash")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,6 +33,12 @@ public class Document {
 
     private String fileType;
 
+    // SHA-256 of the stored file; null for metadata-only documents and legacy uploads
+    @Column(length = 64)
+    private String contentHash;
+
+    private Long size;
+
     @ManyToOne
     @JoinColumn(name = "uploaded_by")
     private User uploadedBy;
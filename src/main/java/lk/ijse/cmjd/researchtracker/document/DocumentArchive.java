@@ -0,0 +1,12 @@
+package lk.ijse.cmjd.researchtracker.document;
+
+import java.util.List;
+
+// A project's documents as listed for the archive download; files are read while the ZIP is written
+public record DocumentArchive(String projectId, String projectTitle, List<DocumentExportRow> documents) {
+
+    public String fileName() {
+        String name = projectTitle != null && !projectTitle.isBlank() ? projectTitle : projectId;
+        return name + ".zip";
+    }
+}
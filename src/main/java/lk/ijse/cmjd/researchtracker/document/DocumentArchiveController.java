@@ -0,0 +1,37 @@
+package lk.ijse.cmjd.researchtracker.document;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+public class DocumentArchiveController {
+    private final DocumentService documentService;
+    private final DocumentArchiveWriter documentArchiveWriter;
+
+    // All files of a project plus manifest.json as one ZIP, streamed as it is built.
+    // compress=false stores every file as is; by default only already-compressed formats are
+    @GetMapping("/api/projects/{projectId}/documents/archive")
+    @PreAuthorize("hasAnyRole('ADMIN','PI','MEMBER','VIEWER')")
+    public void downloadArchive(
+            @PathVariable String projectId,
+            @RequestParam(defaultValue = "true") boolean compress,
+            HttpServletResponse response
+    ) throws IOException {
+        DocumentArchive archive = documentService.getArchive(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found"));
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(archive.fileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        documentArchiveWriter.write(archive, response.getOutputStream(), compress);
+    }
+}
@@ -0,0 +1,141 @@
+package lk.ijse.cmjd.researchtracker.document;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes a project's files as a ZIP straight to the response: each file is copied through the
+ * deflater into the output as it is read, so memory use is constant and nothing is staged on disk.
+ * {@code manifest.json} goes last and lists every document with its path in the archive, or a null
+ * path for link-only documents and files that could not be read. Only blobs in {@link DocumentStorage}
+ * are archived: {@code urlOrPath} is whatever the client registered and is never opened.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentArchiveWriter {
+
+    static final String MANIFEST = "manifest.json";
+
+    // Formats that are already compressed; deflating them again costs CPU and saves nothing
+    private static final Set<String> COMPRESSED_TYPES = Set.of(
+            "application/zip", "application/gzip", "application/x-gzip", "application/x-7z-compressed",
+            "application/x-rar-compressed", "application/vnd.rar", "application/x-bzip2", "application/x-xz",
+            "application/zstd", "application/pdf", "application/epub+zip", "application/java-archive");
+    private static final Set<String> COMPRESSED_TYPE_PREFIXES = Set.of(
+            "image/", "audio/", "video/", "application/vnd.openxmlformats-officedocument.",
+            "application/vnd.oasis.opendocument.");
+    private static final Set<String> UNCOMPRESSED_IMAGE_TYPES = Set.of(
+            "image/svg+xml", "image/bmp", "image/tiff", "image/x-icon");
+    private static final Set<String> COMPRESSED_EXTENSIONS = Set.of(
+            "zip", "gz", "tgz", "7z", "rar", "bz2", "xz", "zst", "pdf", "jpg", "jpeg", "png", "gif", "webp",
+            "heic", "mp3", "m4a", "ogg", "flac", "mp4", "mov", "mkv", "webm", "docx", "xlsx", "pptx",
+            "odt", "ods", "odp", "epub", "jar");
+
+    private final ObjectMapper objectMapper;
+    private final DocumentStorage documentStorage;
+
+    private record ManifestEntry(String path, @JsonUnwrapped DocumentExportRow document) {
+    }
+
+    /**
+     * @param compress deflate files that are not already compressed; when false every file is
+     *                 stored as is, which is fastest when bandwidth is not the bottleneck
+     */
+    public void write(DocumentArchive archive, OutputStream out, boolean compress) throws IOException {
+        List<ManifestEntry> manifest = new ArrayList<>();
+        Set<String> usedNames = new HashSet<>();
+        usedNames.add(MANIFEST);
+        ZipOutputStream zip = new ZipOutputStream(out);
+        for (DocumentExportRow document : archive.documents()) {
+            Path file = documentStorage.find(document.contentHash()).orElse(null);
+            String entryName = null;
+            if (file != null) {
+                entryName = uniqueName(document, usedNames);
+                if (!writeFile(zip, entryName, file, document, compress && !isCompressed(document, entryName))) {
+                    usedNames.remove(entryName);
+                    entryName = null;
+                }
+            }
+            manifest.add(new ManifestEntry(entryName, document));
+        }
+
+        zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+        zip.putNextEntry(new ZipEntry(MANIFEST));
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(zip)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(generator, manifest);
+        zip.closeEntry();
+        zip.finish();
+    }
+
+    // Returns false when the file disappeared before it could be opened; nothing is written then
+    private boolean writeFile(ZipOutputStream zip, String entryName, Path file, DocumentExportRow document,
+                              boolean deflate) throws IOException {
+        InputStream in;
+        try {
+            in = Files.newInputStream(file);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        try (in) {
+            // Level 0 writes the bytes as stored blocks in one pass; a STORED entry would need the
+            // CRC before the data, i.e. reading every file twice
+            zip.setLevel(deflate ? Deflater.DEFAULT_COMPRESSION : Deflater.NO_COMPRESSION);
+            ZipEntry entry = new ZipEntry(entryName);
+            if (document.uploadedAt() != null) {
+                entry.setTimeLocal(document.uploadedAt());
+            }
+            zip.putNextEntry(entry);
+            in.transferTo(zip);
+            zip.closeEntry();
+        }
+        return true;
+    }
+
+    // Titles become file names: path separators and control characters are replaced and
+    // duplicates get a " (n)" suffix before the extension
+    private static String uniqueName(DocumentExportRow document, Set<String> usedNames) {
+        String title = document.title() != null && !document.title().isBlank() ? document.title() : document.id();
+        String name = title.strip().replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_");
+        if (name.startsWith(".")) name = "_" + name;
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String extension = dot > 0 ? name.substring(dot) : "";
+        String candidate = name;
+        for (int n = 2; !usedNames.add(candidate); n++) {
+            candidate = base + " (" + n + ")" + extension;
+        }
+        return candidate;
+    }
+
+    private static boolean isCompressed(DocumentExportRow document, String entryName) {
+        String type = document.fileType() != null ? document.fileType().toLowerCase(Locale.ROOT) : "";
+        int parameters = type.indexOf(';');
+        if (parameters >= 0) type = type.substring(0, parameters).trim();
+        if (COMPRESSED_TYPES.contains(type)) return true;
+        if (!UNCOMPRESSED_IMAGE_TYPES.contains(type)
+                && COMPRESSED_TYPE_PREFIXES.stream().anyMatch(type::startsWith)) {
+            return true;
+        }
+        int dot = entryName.lastIndexOf('.');
+        return dot >= 0 && COMPRESSED_EXTENSIONS.contains(entryName.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+}
@@ -1,14 +1,18 @@
 package lk.ijse.cmjd.researchtracker.document;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.nio.file.Path;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
 import java.util.List;
 
 @RestController
@@ -16,6 +20,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DocumentController {
     private final DocumentService documentService;
+    private final UploadSessionService uploadSessionService;
+    private final DocumentMetrics documentMetrics;
 
     // --- Create a document (metadata only, not file) ---
     @PostMapping
@@ -47,13 +53,56 @@ public class DocumentController {
         }
     }
 
+    // --- Resumable chunked upload: start a session ---
+    @PostMapping("/uploads")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PI', 'MEMBER')")
+    public ResponseEntity<UploadStatus> startUpload(@RequestBody StartUploadRequest request,
+                                                    Principal principal) throws IOException {
+        return new ResponseEntity<>(uploadSessionService.start(request, principal.getName()), HttpStatus.CREATED);
+    }
+
+    // --- Resumable chunked upload: current offset, used to resume after a dropped connection ---
+    @GetMapping("/uploads/{uploadId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PI', 'MEMBER')")
+    public ResponseEntity<UploadStatus> getUploadStatus(@PathVariable String uploadId, Principal principal) {
+        return ResponseEntity.ok(uploadSessionService.getStatus(uploadId, principal.getName()));
+    }
+
+    // --- Resumable chunked upload: append the raw request body at the given offset ---
+    @PutMapping(value = "/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'PI', 'MEMBER')")
+    public ResponseEntity<UploadStatus> appendChunk(
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            HttpServletRequest request,
+            Principal principal
+    ) throws IOException {
+        return ResponseEntity.ok(uploadSessionService.appendChunk(uploadId, principal.getName(), offset,
+                request.getInputStream()));
+    }
+
+    // --- Resumable chunked upload: finish and create the document ---
+    @PostMapping("/uploads/{uploadId}/complete")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PI', 'MEMBER')")
+    public ResponseEntity<Document> completeUpload(@PathVariable String uploadId, Principal principal) throws IOException {
+        return new ResponseEntity<>(uploadSessionService.complete(uploadId, principal.getName()), HttpStatus.CREATED);
+    }
+
+    // --- Resumable chunked upload: abandon ---
+    @DeleteMapping("/uploads/{uploadId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PI', 'MEMBER')")
+    public ResponseEntity<?> abortUpload(@PathVariable String uploadId, Principal principal) throws IOException {
+        uploadSessionService.abort(uploadId, principal.getName());
+        return ResponseEntity.noContent().build();
+    }
+
     // --- List documents for a project ---
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','PI','MEMBER','VIEWER')")
-    public ResponseEntity<List<Document>> getDocumentsByProject(
+    public ResponseEntity<List<DocumentSummary>> getDocumentsByProject(
             @RequestParam("projectId") String projectId
     ) {
-        List<Document> docs = documentService.getDocumentsByProject(projectId);
+        List<DocumentSummary> docs = documentService.getDocumentsByProject(projectId);
         return ResponseEntity.ok(docs);
     }
 
@@ -67,26 +116,35 @@ public class DocumentController {
     }
 
     // --- Download a document file ---
+    // Range requests are answered with 206 partial content (and Accept-Ranges/Content-Length)
+    // by Spring's resource region support; conditional requests get a 304 with no body
     @GetMapping("/{id}/download")
     @PreAuthorize("hasAnyRole('ADMIN','PI','MEMBER','VIEWER')")
-    public ResponseEntity<Resource> downloadDocument(@PathVariable String id) {
-        Path filePath = documentService.getFilePathByDocumentId(id)
-                .orElseThrow(() -> new RuntimeException("Document or file not found"));
-        try {
-            Resource resource = new UrlResource(filePath.toUri());
-            String contentType = "application/octet-stream";
-            Document doc = documentService.getDocumentById(id).orElse(null);
-            String fileName = (doc != null && doc.getTitle() != null) ? doc.getTitle() : filePath.getFileName().toString();
-            if (doc != null && doc.getFileType() != null) {
-                contentType = doc.getFileType();
-            }
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
-                    .body(resource);
-        } catch (Exception e) {
+    public ResponseEntity<Resource> downloadDocument(@PathVariable String id, WebRequest request) {
+        DocumentDownload download = documentService.getDownload(id).orElse(null);
+        if (download == null) {
             return ResponseEntity.notFound().build();
         }
+        String etag = download.etag();
+        long lastModified = download.lastModified().toEpochMilli();
+        if (request.checkNotModified(etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .lastModified(lastModified)
+                    .build();
+        }
+        if (request.getHeader(HttpHeaders.RANGE) == null) {
+            documentMetrics.recordDownload(download.size());
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(download.contentType()))
+                .eTag(etag)
+                .lastModified(lastModified)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(download.fileName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .body(new FileSystemResource(download.path()));
     }
 
     // --- Update a document ---
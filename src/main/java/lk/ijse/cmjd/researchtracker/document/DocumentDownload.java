@@ -0,0 +1,24 @@
+package lk.ijse.cmjd.researchtracker.document;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+// Everything the download endpoint needs, resolved with one metadata lookup
+public record DocumentDownload(Document document, Path path, long size, Instant lastModified) {
+
+    // The content hash is a strong validator; legacy files fall back to id + size + mtime
+    public String etag() {
+        if (document.getContentHash() != null) {
+            return "\"" + document.getContentHash() + "\"";
+        }
+        return "\"" + document.getId() + "-" + size + "-" + lastModified.toEpochMilli() + "\"";
+    }
+
+    public String fileName() {
+        return document.getTitle() != null ? document.getTitle() : path.getFileName().toString();
+    }
+
+    public String contentType() {
+        return document.getFileType() != null ? document.getFileType() : "application/octet-stream";
+    }
+}
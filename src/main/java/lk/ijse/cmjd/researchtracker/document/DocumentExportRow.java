@@ -0,0 +1,18 @@
+package lk.ijse.cmjd.researchtracker.document;
+
+import java.time.LocalDateTime;
+
+// Flat document metadata for the catalogue export and the project archive manifest; no file contents
+public record DocumentExportRow(
+        String id,
+        String projectId,
+        String title,
+        String description,
+        String urlOrPath,
+        String fileType,
+        Long size,
+        String contentHash,
+        String uploaderUsername,
+        LocalDateTime uploadedAt
+) {
+}
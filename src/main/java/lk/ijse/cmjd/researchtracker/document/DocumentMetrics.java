@@ -0,0 +1,37 @@
+package lk.ijse.cmjd.researchtracker.document;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// File transfer volume and timing; request latency per endpoint is already in http.server.requests
+@Component
+@RequiredArgsConstructor
+public class DocumentMetrics {
+    private final MeterRegistry meterRegistry;
+
+    // mode is "multipart" for single-request uploads, "chunked" for one chunk of a resumable upload
+    public void recordUpload(String mode, long bytes, long elapsedNanos) {
+        Timer.builder("documents.upload")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("documents.upload.bytes")
+                .baseUnit("bytes")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    // Full-file downloads only; range requests are served by Spring and not counted here
+    public void recordDownload(long bytes) {
+        DistributionSummary.builder("documents.download.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(bytes);
+    }
+}
@@ -1,8 +1,43 @@
 package lk.ijse.cmjd.researchtracker.document;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface DocumentRepository extends JpaRepository<Document, String> {
     List<Document> findByProjectId(String projectId);
-}
\ No newline at end of file
+
+    long countByContentHash(String contentHash);
+
+    @Query("select new lk.ijse.cmjd.researchtracker.document.DocumentSummary(" +
+            "d.id, d.project.id, d.title, d.description, d.urlOrPath, d.fileType, " +
+            "u.id, u.username, u.fullName, u.role, d.uploadedAt) " +
+            "from Document d left join d.uploadedBy u " +
+            "where d.project.id = :projectId order by d.uploadedAt desc")
+    List<DocumentSummary> findSummariesByProjectId(@Param("projectId") String projectId);
+
+    @Query("select new lk.ijse.cmjd.researchtracker.document.DocumentStats(count(d), coalesce(sum(d.size), 0L)) " +
+            "from Document d where d.project.id = :projectId")
+    DocumentStats getStats(@Param("projectId") String projectId);
+
+    // Every document of a project for the archive manifest, in upload order
+    @Query("select new lk.ijse.cmjd.researchtracker.document.DocumentExportRow(" +
+            "d.id, d.project.id, d.title, d.description, d.urlOrPath, d.fileType, d.size, d.contentHash, " +
+            "u.username, d.uploadedAt) " +
+            "from Document d left join d.uploadedBy u where d.project.id = :projectId order by d.uploadedAt, d.id")
+    List<DocumentExportRow> findExportRowsByProjectId(@Param("projectId") String projectId);
+
+    // Streamed for the catalogue export, see ProjectRepository#streamExportRows
+    @Query("select new lk.ijse.cmjd.researchtracker.document.DocumentExportRow(" +
+            "d.id, d.project.id, d.title, d.description, d.urlOrPath, d.fileType, d.size, d.contentHash, " +
+            "u.username, d.uploadedAt) " +
+            "from Document d left join d.uploadedBy u order by d.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    Stream<DocumentExportRow> streamExportRows();
+}
@@ -1,16 +1,20 @@
 package lk.ijse.cmjd.researchtracker.document;
 
+import lk.ijse.cmjd.researchtracker.feed.ProjectChange;
 import lk.ijse.cmjd.researchtracker.project.Project;
 import lk.ijse.cmjd.researchtracker.project.ProjectRepository;
+import lk.ijse.cmjd.researchtracker.search.SearchIndex;
 import lk.ijse.cmjd.researchtracker.user.User;
 import lk.ijse.cmjd.researchtracker.user.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,9 +26,10 @@ public class DocumentService {
     private final DocumentRepository documentRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
-
-    @Value("${document.upload.dir:uploads}")
-    private String uploadDir;
+    private final DocumentStorage documentStorage;
+    private final SearchIndex searchIndex;
+    private final DocumentMetrics documentMetrics;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Document createDocument(Document document, String projectId, String uploaderUsername) {
         Project project = projectRepository.findById(projectId)
@@ -36,11 +41,17 @@ public class DocumentService {
         document.setProject(project);
         document.setUploadedBy(uploader);
         document.setUploadedAt(LocalDateTime.now());
-        return documentRepository.save(document);
+        // Only the storage sets these; a forged hash would claim, and keep alive, someone else's blob
+        document.setContentHash(null);
+        document.setSize(null);
+        Document saved = documentRepository.save(document);
+        searchIndex.indexDocument(saved);
+        publish(saved, "created");
+        return saved;
     }
 
-    public List<Document> getDocumentsByProject(String projectId) {
-        return documentRepository.findByProjectId(projectId);
+    public List<DocumentSummary> getDocumentsByProject(String projectId) {
+        return documentRepository.findSummariesByProjectId(projectId);
     }
 
     public Optional<Document> getDocumentById(String id) {
@@ -52,22 +63,36 @@ public class DocumentService {
                 .orElseThrow(() -> new RuntimeException("Document not found"));
         doc.setTitle(updated.getTitle());
         doc.setDescription(updated.getDescription());
-        return documentRepository.save(doc);
+        Document saved = documentRepository.save(doc);
+        searchIndex.indexDocument(saved);
+        publish(saved, "updated");
+        return saved;
     }
 
     public void deleteDocument(String id) {
         Document doc = documentRepository.findById(id).orElse(null);
         if (doc != null) {
-            // Delete file from disk
-            if (doc.getUrlOrPath() != null) {
-                try {
-                    java.nio.file.Files.deleteIfExists(java.nio.file.Path.of(doc.getUrlOrPath()));
-                } catch (Exception e) {
-                    // Optionally log the error, but continue to delete the DB record
-                    e.printStackTrace();
+            documentRepository.deleteById(id);
+            searchIndex.delete("document", id);
+            if (doc.getProject() != null) {
+                eventPublisher.publishEvent(new ProjectChange(doc.getProject().getId(), "document", "deleted", id, null));
+            }
+            try {
+                if (doc.getContentHash() != null) {
+                    // Shared blob: only delete it once no other document references the same content
+                    documentStorage.release(doc.getContentHash(),
+                            () -> documentRepository.countByContentHash(doc.getContentHash()) == 0);
+                } else {
+                    // Legacy upload stored under its own name; any other path is not ours to delete
+                    Optional<Path> legacyFile = documentStorage.findLegacy(doc.getUrlOrPath());
+                    if (legacyFile.isPresent()) {
+                        Files.deleteIfExists(legacyFile.get());
+                    }
                 }
+            } catch (Exception e) {
+                // Optionally log the error; the DB record is already gone
+                e.printStackTrace();
             }
-            documentRepository.deleteById(id);
         }
     }
 
@@ -79,32 +104,82 @@ public class DocumentService {
             throw new RuntimeException("User not found");
         }
 
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+        DocumentStorage.StagedFile staged;
+        long start = System.nanoTime();
+        try (InputStream in = file.getInputStream()) {
+            staged = documentStorage.stage(in);
         }
+        documentMetrics.recordUpload("multipart", staged.size(), System.nanoTime() - start);
 
-        String uuid = UUID.randomUUID().toString();
         String originalFileName = file.getOriginalFilename();
-        String storedFileName = uuid + "_" + originalFileName;
-        Path filePath = uploadPath.resolve(storedFileName);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        return saveStagedFile(staged, project, uploader, title != null ? title : originalFileName,
+                description, file.getContentType());
+    }
+
+    // Registers a file that was already streamed into the temp area (used by chunked uploads)
+    public Document createFromStagedFile(DocumentStorage.StagedFile staged, String projectId, String uploaderUsername,
+                                         String title, String description, String contentType) throws IOException {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found"));
+        User uploader = userRepository.findByUsername(uploaderUsername);
+        if (uploader == null) {
+            throw new RuntimeException("User not found");
+        }
+        return saveStagedFile(staged, project, uploader, title, description, contentType);
+    }
 
+    private Document saveStagedFile(DocumentStorage.StagedFile staged, Project project, User uploader,
+                                    String title, String description, String contentType) throws IOException {
         Document doc = new Document();
-        doc.setId(uuid);
+        doc.setId(UUID.randomUUID().toString());
         doc.setProject(project);
-        doc.setTitle(title != null ? title : originalFileName);
+        doc.setTitle(title);
         doc.setDescription(description);
-        doc.setUrlOrPath(filePath.toString());
-        doc.setFileType(file.getContentType());
+        doc.setFileType(contentType);
+        doc.setContentHash(staged.hash());
+        doc.setSize(staged.size());
         doc.setUploadedBy(uploader);
         doc.setUploadedAt(LocalDateTime.now());
 
-        return documentRepository.save(doc);
+        Document saved = documentStorage.commit(staged, blobPath -> {
+            doc.setUrlOrPath(blobPath.toString());
+            return documentRepository.save(doc);
+        });
+        searchIndex.indexDocument(saved);
+        publish(saved, "created");
+        return saved;
+    }
+
+    private void publish(Document document, String action) {
+        if (document.getProject() != null) {
+            eventPublisher.publishEvent(new ProjectChange(document.getProject().getId(), "document", action,
+                    document.getId(), DocumentSummary.from(document)));
+        }
+    }
+
+    // Metadata for a project's archive: one lookup for the project, one for all of its documents
+    public Optional<DocumentArchive> getArchive(String projectId) {
+        return projectRepository.findById(projectId)
+                .map(project -> new DocumentArchive(project.getId(), project.getTitle(),
+                        documentRepository.findExportRowsByProjectId(projectId)));
     }
 
-    public Optional<Path> getFilePathByDocumentId(String id) {
+    // urlOrPath is client-supplied, so only files the storage itself wrote are served
+    public Optional<DocumentDownload> getDownload(String id) {
         return documentRepository.findById(id)
-                .map(doc -> Paths.get(doc.getUrlOrPath()));
+                .flatMap(doc -> storedFile(doc).flatMap(path -> {
+                    try {
+                        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                        return Optional.of(new DocumentDownload(doc, path, attrs.size(), attrs.lastModifiedTime().toInstant()));
+                    } catch (IOException e) {
+                        return Optional.empty();
+                    }
+                }));
+    }
+
+    private Optional<Path> storedFile(Document doc) {
+        return doc.getContentHash() != null
+                ? documentStorage.find(doc.getContentHash())
+                : documentStorage.findLegacy(doc.getUrlOrPath());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,5 @@
+package lk.ijse.cmjd.researchtracker.document;
+
+// Document count and stored bytes for a project; documents without a recorded size count as 0
+public record DocumentStats(long count, long totalBytes) {
+}
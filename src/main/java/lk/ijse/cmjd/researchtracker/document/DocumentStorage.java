@@ -0,0 +1,132 @@
+package lk.ijse.cmjd.researchtracker.document;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Content-addressed file store. Every file lives once under
+ * {@code <upload dir>/objects/<2 hex>/<2 hex>/<sha-256>}, however many documents point at it.
+ * Reference counts come from the documents table; the blob is removed once nothing points at it.
+ */
+@Component
+public class DocumentStorage {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final Pattern SHA_256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    @Value("${document.upload.dir:uploads}")
+    private String uploadDir;
+
+    public DocumentStorage() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public record StagedFile(Path tempPath, String hash, long size) {
+    }
+
+    // Streams the content to a temp file, hashing it on the way through
+    public StagedFile stage(InputStream content) throws IOException {
+        Path tempPath = Files.createTempFile(tempDir(), "upload-", ".part");
+        try (DigestInputStream in = new DigestInputStream(content, sha256())) {
+            long size = Files.copy(in, tempPath, StandardCopyOption.REPLACE_EXISTING);
+            return new StagedFile(tempPath, HexFormat.of().formatHex(in.getMessageDigest().digest()), size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+    }
+
+    /**
+     * Moves a staged file to its content address (or drops it when the blob already exists)
+     * and runs {@code register} while no concurrent release can remove the blob.
+     */
+    public <T> T commit(StagedFile staged, Function<Path, T> register) throws IOException {
+        Path blobPath = blobPath(staged.hash());
+        ReentrantLock lock = lockFor(staged.hash());
+        lock.lock();
+        try {
+            if (Files.exists(blobPath)) {
+                Files.deleteIfExists(staged.tempPath());
+            } else {
+                Files.createDirectories(blobPath.getParent());
+                Files.move(staged.tempPath(), blobPath, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return register.apply(blobPath);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Deletes the blob if {@code unreferenced} still holds once the lock is taken
+    public void release(String hash, BooleanSupplier unreferenced) throws IOException {
+        ReentrantLock lock = lockFor(hash);
+        lock.lock();
+        try {
+            if (unreferenced.getAsBoolean()) {
+                Files.deleteIfExists(blobPath(hash));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The stored blob for a content hash, if it exists; never resolves outside the objects directory
+    public Optional<Path> find(String hash) {
+        if (hash == null || !SHA_256_HEX.matcher(hash).matches()) return Optional.empty();
+        Path blobPath = blobPath(hash);
+        return Files.isRegularFile(blobPath, LinkOption.NOFOLLOW_LINKS) ? Optional.of(blobPath) : Optional.empty();
+    }
+
+    // A file from before the content store: stored directly in the upload dir under its own name.
+    // Anything else (blobs under objects/, temp files, paths outside the upload dir) is not one
+    public Optional<Path> findLegacy(String urlOrPath) {
+        if (urlOrPath == null) return Optional.empty();
+        try {
+            Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+            Path path = Paths.get(urlOrPath).toAbsolutePath().normalize();
+            if (!root.equals(path.getParent()) || !Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS)) {
+                return Optional.empty();
+            }
+            return Optional.of(path);
+        } catch (InvalidPathException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Path tempDir() throws IOException {
+        return Files.createDirectories(Paths.get(uploadDir, "tmp"));
+    }
+
+    private Path blobPath(String hash) {
+        return Paths.get(uploadDir, "objects", hash.substring(0, 2), hash.substring(2, 4), hash);
+    }
+
+    private ReentrantLock lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
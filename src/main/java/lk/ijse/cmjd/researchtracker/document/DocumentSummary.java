@@ -0,0 +1,40 @@
+package lk.ijse.cmjd.researchtracker.document;
+
+import lk.ijse.cmjd.researchtracker.user.UserRole;
+import lk.ijse.cmjd.researchtracker.user.UserSummary;
+
+import java.time.LocalDateTime;
+
+// Row of the document listing: the project is referenced by id only
+public record DocumentSummary(
+        String id,
+        String projectId,
+        String title,
+        String description,
+        String urlOrPath,
+        String fileType,
+        UserSummary uploadedBy,
+        LocalDateTime uploadedAt
+) {
+
+    public static DocumentSummary from(Document document) {
+        return new DocumentSummary(
+                document.getId(),
+                document.getProject() != null ? document.getProject().getId() : null,
+                document.getTitle(),
+                document.getDescription(),
+                document.getUrlOrPath(),
+                document.getFileType(),
+                UserSummary.from(document.getUploadedBy()),
+                document.getUploadedAt()
+        );
+    }
+
+    // Flat constructor used by the JPQL "select new" projection
+    public DocumentSummary(String id, String projectId, String title, String description, String urlOrPath,
+                           String fileType, String uploaderId, String uploaderUsername, String uploaderFullName,
+                           UserRole uploaderRole, LocalDateTime uploadedAt) {
+        this(id, projectId, title, description, urlOrPath, fileType,
+                UserSummary.of(uploaderId, uploaderUsername, uploaderFullName, uploaderRole), uploadedAt);
+    }
+}
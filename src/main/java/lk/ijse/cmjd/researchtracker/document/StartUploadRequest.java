@@ -0,0 +1,14 @@
+package lk.ijse.cmjd.researchtracker.document;
+
+import lombok.Data;
+
+@Data
+public class StartUploadRequest {
+    private String projectId;
+    private String uploaderUsername;
+    private String fileName;
+    private String contentType;
+    private Long totalSize;
+    private String title;
+    private String description;
+}
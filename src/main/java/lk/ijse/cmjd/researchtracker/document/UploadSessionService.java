@@ -0,0 +1,194 @@
+package lk.ijse.cmjd.researchtracker.document;
+
+import lk.ijse.cmjd.researchtracker.project.ProjectRepository;
+import lk.ijse.cmjd.researchtracker.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resumable uploads: start a session, append chunks in order, then complete it.
+ * Chunks are written with positioned NIO writes straight into a file in the storage temp area
+ * and hashed as they arrive, so completing is an atomic move into the content store and the
+ * bytes are never copied a second time. The Document row is only created on completion.
+ * A session belongs to the user who started it; to anyone else it does not exist.
+ */
+@Service
+@RequiredArgsConstructor
+public class UploadSessionService {
+
+    private static final Duration SESSION_TTL = Duration.ofHours(24);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DocumentService documentService;
+    private final DocumentStorage documentStorage;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final DocumentMetrics documentMetrics;
+
+    private final ConcurrentMap<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    private static final class UploadSession {
+        private final String id = UUID.randomUUID().toString();
+        private final StartUploadRequest request;
+        private final String owner;
+        private final Path tempPath;
+        private final MessageDigest digest = DocumentStorage.sha256();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long received;
+        private volatile Instant lastActivity = Instant.now();
+
+        private UploadSession(StartUploadRequest request, String owner, Path tempPath) {
+            this.request = request;
+            this.owner = owner;
+            this.tempPath = tempPath;
+        }
+
+        private UploadStatus status() {
+            return new UploadStatus(id, received, request.getTotalSize());
+        }
+    }
+
+    public UploadStatus start(StartUploadRequest request, String owner) throws IOException {
+        purgeExpiredSessions();
+        if (!projectRepository.existsById(request.getProjectId())) {
+            throw new RuntimeException("Project not found");
+        }
+        if (!userRepository.existsByUsername(request.getUploaderUsername())) {
+            throw new RuntimeException("User not found");
+        }
+        Path tempPath = Files.createTempFile(documentStorage.tempDir(), "chunked-", ".part");
+        UploadSession session = new UploadSession(request, owner, tempPath);
+        sessions.put(session.id, session);
+        return session.status();
+    }
+
+    public UploadStatus getStatus(String uploadId, String username) {
+        return find(uploadId, username).status();
+    }
+
+    // Appends the body at {@code offset}; bytes written before a dropped connection are kept
+    public UploadStatus appendChunk(String uploadId, String username, long offset, InputStream body) throws IOException {
+        UploadSession session = find(uploadId, username);
+        if (!session.lock.tryLock()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Another chunk is being written");
+        }
+        try {
+            // Completed or aborted while this request waited
+            if (sessions.get(uploadId) != session) {
+                throw new RuntimeException("Upload not found");
+            }
+            if (offset != session.received) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Expected offset " + session.received + " but got " + offset);
+            }
+            Long totalSize = session.request.getTotalSize();
+            long start = System.nanoTime();
+            long startOffset = session.received;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (FileChannel channel = FileChannel.open(session.tempPath, StandardOpenOption.WRITE)) {
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    if (totalSize != null && session.received + read > totalSize) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Chunk exceeds declared size");
+                    }
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    long position = session.received;
+                    while (chunk.hasRemaining()) {
+                        position += channel.write(chunk, position);
+                    }
+                    session.digest.update(buffer, 0, read);
+                    session.received += read;
+                }
+            } finally {
+                session.lastActivity = Instant.now();
+            }
+            documentMetrics.recordUpload("chunked", session.received - startOffset, System.nanoTime() - start);
+            return session.status();
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    public Document complete(String uploadId, String username) throws IOException {
+        UploadSession session = find(uploadId, username);
+        session.lock.lock();
+        try {
+            StartUploadRequest request = session.request;
+            if (request.getTotalSize() != null && session.received != request.getTotalSize()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Upload incomplete: " + session.received + " of " + request.getTotalSize() + " bytes");
+            }
+            if (!sessions.remove(uploadId, session)) {
+                throw new RuntimeException("Upload not found");
+            }
+            String hash = HexFormat.of().formatHex(session.digest.digest());
+            DocumentStorage.StagedFile staged = new DocumentStorage.StagedFile(session.tempPath, hash, session.received);
+            String title = request.getTitle() != null ? request.getTitle() : request.getFileName();
+            try {
+                return documentService.createFromStagedFile(staged, request.getProjectId(),
+                        request.getUploaderUsername(), title, request.getDescription(), request.getContentType());
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(session.tempPath);
+                throw e;
+            }
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    // Waits for a chunk in progress, so the file is never deleted under a running append
+    public void abort(String uploadId, String username) throws IOException {
+        UploadSession session = find(uploadId, username);
+        session.lock.lock();
+        try {
+            if (sessions.remove(uploadId, session)) {
+                Files.deleteIfExists(session.tempPath);
+            }
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    private UploadSession find(String uploadId, String username) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null || !session.owner.equals(username)) {
+            throw new RuntimeException("Upload not found");
+        }
+        return session;
+    }
+
+    private void purgeExpiredSessions() {
+        Instant cutoff = Instant.now().minus(SESSION_TTL);
+        sessions.values().removeIf(session -> {
+            if (session.lastActivity.isAfter(cutoff) || !session.lock.tryLock()) {
+                return false;
+            }
+            try {
+                Files.deleteIfExists(session.tempPath);
+            } catch (IOException e) {
+                e.printStackTrace();
+            } finally {
+                session.lock.unlock();
+            }
+            return true;
+        });
+    }
+}
@@ -0,0 +1,5 @@
+package lk.ijse.cmjd.researchtracker.document;
+
+// Progress of a chunked upload; the next chunk must start at {@code received}
+public record UploadStatus(String uploadId, long received, Long totalSize) {
+}
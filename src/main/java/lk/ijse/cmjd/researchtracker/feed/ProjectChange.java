@@ -0,0 +1,16 @@
+package lk.ijse.cmjd.researchtracker.feed;
+
+/**
+ * One change to a project or to something in it, published by the services as an application event
+ * and sent on the project's change feed once the change has committed.
+ *
+ * @param type   what changed: {@code project}, {@code member}, {@code milestone} or {@code document}
+ * @param action {@code created}, {@code updated}, {@code deleted}, {@code added} or {@code removed}
+ * @param data   the new state as the listing endpoints return it (null for deletions)
+ */
+public record ProjectChange(String projectId, String type, String action, String id, Object data) {
+
+    String eventName() {
+        return type + "." + action;
+    }
+}
@@ -0,0 +1,118 @@
+package lk.ijse.cmjd.researchtracker.feed;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-process fan-out of {@link ProjectChange}s to the SSE subscribers of each project. Publishing
+ * never blocks the service that made the change: every subscriber has a bounded queue drained by
+ * its own virtual thread, so a slow client only delays itself. A client that falls a whole queue
+ * behind is disconnected; it reconnects and reloads instead of being fed a backlog.
+ */
+@Component
+public class ProjectChangeBroker {
+
+    // Queued like a change, sent as an SSE comment to keep proxies from closing idle streams
+    private static final ProjectChange HEARTBEAT = new ProjectChange(null, null, null, null, null);
+
+    private final ConcurrentMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${feed.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${feed.timeout:30m}")
+    private Duration timeout;
+
+    public SseEmitter subscribe(String projectId) {
+        Subscriber subscriber = new Subscriber(projectId, new SseEmitter(timeout.toMillis()),
+                new ArrayBlockingQueue<>(queueCapacity));
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> disconnect(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+        subscribers.computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriber.queue.offer(HEARTBEAT);
+        subscriber.sender.start();
+        return subscriber.emitter;
+    }
+
+    // Runs after the publishing transaction commits, or straight away when there is none
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(ProjectChange change) {
+        Set<Subscriber> targets = subscribers.get(change.projectId());
+        if (targets == null) return;
+        for (Subscriber subscriber : targets) {
+            if (!subscriber.queue.offer(change)) {
+                disconnect(subscriber);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${feed.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.queue.offer(HEARTBEAT)));
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.values().forEach(targets -> targets.forEach(this::disconnect));
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        unsubscribe(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.projectId, (id, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+        subscriber.sender.interrupt();
+    }
+
+    private final class Subscriber {
+        private final String projectId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<ProjectChange> queue;
+        private final Thread sender;
+
+        Subscriber(String projectId, SseEmitter emitter, BlockingQueue<ProjectChange> queue) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+            this.queue = queue;
+            this.sender = Thread.ofVirtual().name("feed-" + projectId).unstarted(this::run);
+        }
+
+        void run() {
+            try {
+                while (true) {
+                    ProjectChange change = queue.take();
+                    if (change == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event().name(change.eventName()).data(change, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Unsubscribed
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter already completed
+                unsubscribe(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package lk.ijse.cmjd.researchtracker.feed;
+
+import lk.ijse.cmjd.researchtracker.project.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+public class ProjectChangeController {
+    private final ProjectChangeBroker projectChangeBroker;
+    private final ProjectRepository projectRepository;
+
+    // Server-sent events for every change to the project, its members, milestones and documents.
+    // Changes made while disconnected are not replayed: clients reload after reconnecting
+    @GetMapping(value = "/api/projects/{projectId}/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN','PI','MEMBER','VIEWER')")
+    public SseEmitter subscribe(@PathVariable String projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found");
+        }
+        return projectChangeBroker.subscribe(projectId);
+    }
+}
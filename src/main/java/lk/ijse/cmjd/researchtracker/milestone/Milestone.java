@@ -8,7 +8,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "milestones")
+@Table(name = "milestones", indexes = {
+        // Per-project listing and progress, and membership-filtered timeline queries
+        @Index(name = "idx_milestones_project_completed_due", columnList = "project_id, is_completed, due_date"),
+        // Portfolio-wide "due soon" and "overdue" ranges that are not narrowed to a project
+        @Index(name = "idx_milestones_completed_due", columnList = "is_completed, due_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
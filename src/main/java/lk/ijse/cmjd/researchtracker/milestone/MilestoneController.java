@@ -1,10 +1,17 @@
 package lk.ijse.cmjd.researchtracker.milestone;
 
+import lk.ijse.cmjd.researchtracker.project.Project;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -15,10 +22,26 @@ public class MilestoneController {
     // List milestones for a project
     @GetMapping("/api/projects/{projectId}/milestones")
     @PreAuthorize("hasAnyRole('ADMIN','PI','MEMBER','VIEWER')")
-    public ResponseEntity<List<Milestone>> getMilestonesByProject(@PathVariable String projectId) {
+    public ResponseEntity<List<MilestoneSummary>> getMilestonesByProject(@PathVariable String projectId) {
         return ResponseEntity.ok(milestoneService.getMilestonesByProject(projectId));
     }
 
+    // Cross-project timeline, e.g. ?dueTo=...&completed=false or ?overdue=true&member=alice
+    @GetMapping("/api/milestones")
+    @PreAuthorize("hasAnyRole('ADMIN','PI','MEMBER','VIEWER')")
+    public ResponseEntity<PagedModel<MilestoneTimelineEntry>> getTimeline(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(defaultValue = "false") boolean overdue,
+            @RequestParam(required = false) Project.Status projectStatus,
+            @RequestParam(required = false) String member,
+            @PageableDefault(size = 20, sort = "dueDate", direction = Sort.Direction.ASC) Pageable pageable
+    ) {
+        return ResponseEntity.ok(new PagedModel<>(
+                milestoneService.getTimeline(dueFrom, dueTo, completed, overdue, projectStatus, member, pageable)));
+    }
+
     // Add milestone
     @PostMapping("/api/projects/{projectId}/milestones")
     @PreAuthorize("hasAnyRole('ADMIN', 'PI', 'MEMBER')")
@@ -0,0 +1,17 @@
+package lk.ijse.cmjd.researchtracker.milestone;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Row of the catalogue export, with the same column names the milestone import reads
+public record MilestoneExportRow(
+        String id,
+        String projectId,
+        String title,
+        String description,
+        LocalDate dueDate,
+        boolean completed,
+        String creatorUsername,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,7 @@
+package lk.ijse.cmjd.researchtracker.milestone;
+
+import java.time.LocalDate;
+
+// Milestone counts for a project; overdue means not completed and due before today
+public record MilestoneProgress(long total, long completed, long overdue, LocalDate nextDue) {
+}
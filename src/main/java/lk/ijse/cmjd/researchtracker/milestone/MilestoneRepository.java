@@ -1,8 +1,68 @@
 package lk.ijse.cmjd.researchtracker.milestone;
 
+import jakarta.persistence.QueryHint;
+import lk.ijse.cmjd.researchtracker.project.Project;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MilestoneRepository extends JpaRepository<Milestone, String> {
     List<Milestone> findByProjectId(String projectId);
-}
\ No newline at end of file
+
+    @Query("select new lk.ijse.cmjd.researchtracker.milestone.MilestoneSummary(" +
+            "m.id, m.project.id, m.title, m.description, m.dueDate, m.isCompleted, " +
+            "u.id, u.username, u.fullName, u.role, m.createdAt) " +
+            "from Milestone m left join m.createdBy u " +
+            "where m.project.id = :projectId order by m.dueDate asc")
+    List<MilestoneSummary> findSummariesByProjectId(@Param("projectId") String projectId);
+
+    @Query("select new lk.ijse.cmjd.researchtracker.milestone.MilestoneProgress(" +
+            "count(m), " +
+            "coalesce(sum(case when m.isCompleted = true then 1 else 0 end), 0L), " +
+            "coalesce(sum(case when m.isCompleted = false and m.dueDate < :today then 1 else 0 end), 0L), " +
+            "min(case when m.isCompleted = false and m.dueDate >= :today then m.dueDate end)) " +
+            "from Milestone m where m.project.id = :projectId")
+    MilestoneProgress getProgress(@Param("projectId") String projectId, @Param("today") LocalDate today);
+
+    // Cross-project timeline; a null argument means "no filter". overdueBefore keeps open milestones due before that day
+    @Query(value = "select new lk.ijse.cmjd.researchtracker.milestone.MilestoneTimelineEntry(" +
+            "m.id, p.id, p.title, p.status, m.title, m.dueDate, m.isCompleted) " +
+            "from Milestone m join m.project p " +
+            "where (:dueFrom is null or m.dueDate >= :dueFrom) " +
+            "and (:dueTo is null or m.dueDate <= :dueTo) " +
+            "and (:completed is null or m.isCompleted = :completed) " +
+            "and (:overdueBefore is null or (m.isCompleted = false and m.dueDate < :overdueBefore)) " +
+            "and (:status is null or p.status = :status) " +
+            "and (:member is null or p.pi.username = :member " +
+            "or exists (select 1 from Project mp join mp.members u where mp = p and u.username = :member))",
+            countQuery = "select count(m) from Milestone m join m.project p " +
+                    "where (:dueFrom is null or m.dueDate >= :dueFrom) " +
+                    "and (:dueTo is null or m.dueDate <= :dueTo) " +
+                    "and (:completed is null or m.isCompleted = :completed) " +
+                    "and (:overdueBefore is null or (m.isCompleted = false and m.dueDate < :overdueBefore)) " +
+                    "and (:status is null or p.status = :status) " +
+                    "and (:member is null or p.pi.username = :member " +
+                    "or exists (select 1 from Project mp join mp.members u where mp = p and u.username = :member))")
+    Page<MilestoneTimelineEntry> findTimeline(@Param("dueFrom") LocalDate dueFrom,
+                                              @Param("dueTo") LocalDate dueTo,
+                                              @Param("completed") Boolean completed,
+                                              @Param("overdueBefore") LocalDate overdueBefore,
+                                              @Param("status") Project.Status status,
+                                              @Param("member") String member,
+                                              Pageable pageable);
+
+    // Streamed for the catalogue export, see ProjectRepository#streamExportRows
+    @Query("select new lk.ijse.cmjd.researchtracker.milestone.MilestoneExportRow(" +
+            "m.id, m.project.id, m.title, m.description, m.dueDate, m.isCompleted, u.username, m.createdAt) " +
+            "from Milestone m left join m.createdBy u order by m.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    Stream<MilestoneExportRow> streamExportRows();
+}
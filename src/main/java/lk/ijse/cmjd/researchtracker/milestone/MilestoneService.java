@@ -1,12 +1,20 @@
 package lk.ijse.cmjd.researchtracker.milestone;
 
+import lk.ijse.cmjd.researchtracker.feed.ProjectChange;
 import lk.ijse.cmjd.researchtracker.project.Project;
 import lk.ijse.cmjd.researchtracker.project.ProjectRepository;
+import lk.ijse.cmjd.researchtracker.search.SearchIndex;
 import lk.ijse.cmjd.researchtracker.user.User;
 import lk.ijse.cmjd.researchtracker.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -18,7 +26,10 @@ public class MilestoneService {
     private final MilestoneRepository milestoneRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final SearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @CacheEvict(cacheNames = "milestones", key = "#projectId")
     public Milestone createMilestone(String projectId, Milestone milestone, String creatorUsername) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
@@ -29,28 +40,54 @@ public class MilestoneService {
         milestone.setCreatedBy(creator);
         milestone.setCreatedAt(LocalDateTime.now());
         milestone.setCompleted(false);
-        return milestoneRepository.save(milestone);
+        Milestone saved = milestoneRepository.save(milestone);
+        searchIndex.indexMilestone(saved);
+        publish(saved, "created");
+        return saved;
     }
 
-    public List<Milestone> getMilestonesByProject(String projectId) {
-        return milestoneRepository.findByProjectId(projectId);
+    @Cacheable(cacheNames = "milestones", key = "#projectId")
+    public List<MilestoneSummary> getMilestonesByProject(String projectId) {
+        return milestoneRepository.findSummariesByProjectId(projectId);
+    }
+
+    // Milestones across every project matching the filters, in one paged query
+    public Page<MilestoneTimelineEntry> getTimeline(LocalDate dueFrom, LocalDate dueTo, Boolean completed, boolean overdue,
+                                                    Project.Status projectStatus, String member, Pageable pageable) {
+        return milestoneRepository.findTimeline(dueFrom, dueTo, completed, overdue ? LocalDate.now() : null,
+                projectStatus, member, pageable);
     }
 
     public Optional<Milestone> getMilestoneById(String id) {
         return milestoneRepository.findById(id);
     }
 
+    @CacheEvict(cacheNames = "milestones", key = "#result.project.id")
     public Milestone updateMilestone(String id, Milestone updated) {
         return milestoneRepository.findById(id).map(m -> {
             m.setTitle(updated.getTitle());
             m.setDescription(updated.getDescription());
             m.setDueDate(updated.getDueDate());
             m.setCompleted(updated.isCompleted());
-            return milestoneRepository.save(m);
+            Milestone saved = milestoneRepository.save(m);
+            searchIndex.indexMilestone(saved);
+            publish(saved, "updated");
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Milestone not found"));
     }
 
+    // The project id is not known here, so drop every cached milestone list
+    @CacheEvict(cacheNames = "milestones", allEntries = true)
     public void deleteMilestone(String id) {
-        milestoneRepository.deleteById(id);
+        milestoneRepository.findById(id).ifPresent(milestone -> {
+            milestoneRepository.delete(milestone);
+            eventPublisher.publishEvent(new ProjectChange(milestone.getProject().getId(), "milestone", "deleted", id, null));
+        });
+        searchIndex.delete("milestone", id);
+    }
+
+    private void publish(Milestone milestone, String action) {
+        eventPublisher.publishEvent(new ProjectChange(milestone.getProject().getId(), "milestone", action,
+                milestone.getId(), MilestoneSummary.from(milestone)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package lk.ijse.cmjd.researchtracker.milestone;
+
+import lk.ijse.cmjd.researchtracker.user.UserRole;
+import lk.ijse.cmjd.researchtracker.user.UserSummary;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Row of the milestone listing: the project is referenced by id only
+public record MilestoneSummary(
+        String id,
+        String projectId,
+        String title,
+        String description,
+        LocalDate dueDate,
+        boolean completed,
+        UserSummary createdBy,
+        LocalDateTime createdAt
+) {
+
+    public static MilestoneSummary from(Milestone milestone) {
+        return new MilestoneSummary(
+                milestone.getId(),
+                milestone.getProject() != null ? milestone.getProject().getId() : null,
+                milestone.getTitle(),
+                milestone.getDescription(),
+                milestone.getDueDate(),
+                milestone.isCompleted(),
+                UserSummary.from(milestone.getCreatedBy()),
+                milestone.getCreatedAt()
+        );
+    }
+
+    // Flat constructor used by the JPQL "select new" projection
+    public MilestoneSummary(String id, String projectId, String title, String description, LocalDate dueDate,
+                            boolean completed, String creatorId, String creatorUsername, String creatorFullName,
+                            UserRole creatorRole, LocalDateTime createdAt) {
+        this(id, projectId, title, description, dueDate, completed,
+                UserSummary.of(creatorId, creatorUsername, creatorFullName, creatorRole), createdAt);
+    }
+}
@@ -0,0 +1,17 @@
+package lk.ijse.cmjd.researchtracker.milestone;
+
+import lk.ijse.cmjd.researchtracker.project.Project;
+
+import java.time.LocalDate;
+
+// Row of the cross-project milestone timeline: carries enough of the project to label it
+public record MilestoneTimelineEntry(
+        String id,
+        String projectId,
+        String projectTitle,
+        Project.Status projectStatus,
+        String title,
+        LocalDate dueDate,
+        boolean completed
+) {
+}
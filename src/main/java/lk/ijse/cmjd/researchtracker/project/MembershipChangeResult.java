@@ -0,0 +1,7 @@
+package lk.ijse.cmjd.researchtracker.project;
+
+import java.util.List;
+
+// Outcome of a bulk membership change; unknown usernames are skipped, not fatal
+public record MembershipChangeResult(int added, int removed, List<String> unknownUsernames) {
+}
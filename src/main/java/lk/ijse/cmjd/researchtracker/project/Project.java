@@ -1,17 +1,25 @@
 package lk.ijse.cmjd.researchtracker.project;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lk.ijse.cmjd.researchtracker.user.User;
 import lombok.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_projects_start_date", columnList = "start_date"),
+        @Index(name = "idx_projects_created_at", columnList = "created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -34,16 +42,34 @@ public class Project {
     @JoinColumn(name = "pi_id", nullable = false)
     private User pi;
 
-    // Comma-separated tags (e.g., "AI, environment")
+    // Comma-separated tags (e.g., "AI, environment"), kept as entered for display
     private String tags;
 
+    // Normalized copy of tags (trimmed, lower-case) in an indexed table, used for tag queries
+    @ElementCollection
+    @CollectionTable(
+            name = "project_tags",
+            joinColumns = @JoinColumn(name = "project_id"),
+            indexes = @Index(name = "idx_project_tags_tag", columnList = "tag")
+    )
+    @Column(name = "tag", nullable = false, length = 100)
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Set<String> tagSet = new HashSet<>();
+
     private LocalDate startDate;
     private LocalDate endDate;
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Not serialized; members are listed through /api/projects/{id}/members. Left out of
+    // equals/hashCode/toString so a detached (cached) project never touches the lazy collection
     @ManyToMany
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     @JoinTable(
             name = "project_members",
             joinColumns = @JoinColumn(name = "project_id"),
@@ -55,6 +81,26 @@ public class Project {
         PLANNING, ACTIVE, ON_HOLD, COMPLETED, ARCHIVED
     }
 
+    public void setTags(String tags) {
+        this.tags = tags;
+        Set<String> normalized = normalizeTags(tags);
+        this.tagSet.retainAll(normalized);
+        this.tagSet.addAll(normalized);
+    }
+
+    public static Set<String> normalizeTags(String tags) {
+        if (tags == null) return new HashSet<>();
+        return Arrays.stream(tags.split(","))
+                .map(Project::normalizeTag)
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    public static String normalizeTag(String tag) {
+        String normalized = tag.trim().toLowerCase(Locale.ROOT);
+        return normalized.length() > 100 ? normalized.substring(0, 100) : normalized;
+    }
+
     @PrePersist
     public void prePersist() {
         if (this.id == null) this.id = UUID.randomUUID().toString();
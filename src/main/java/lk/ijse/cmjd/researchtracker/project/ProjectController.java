@@ -1,12 +1,17 @@
 package lk.ijse.cmjd.researchtracker.project;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-import lk.ijse.cmjd.researchtracker.user.User;
+import lk.ijse.cmjd.researchtracker.user.UserSummary;
 
-import java.util.Set;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -14,6 +19,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProjectController {
     private final ProjectService projectService;
+    private final ProjectOverviewService projectOverviewService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'PI')")
@@ -24,8 +30,24 @@ public class ProjectController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','PI','MEMBER','VIEWER')")
-    public ResponseEntity<List<Project>> getAllProjects() {
-        return ResponseEntity.ok(projectService.getAllProjects());
+    public ResponseEntity<PagedModel<ProjectSummary>> getProjects(
+            @RequestParam(required = false) Project.Status status,
+            @RequestParam(required = false) String piId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startTo,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String member,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return ResponseEntity.ok(new PagedModel<>(
+                projectService.searchProjects(status, piId, startFrom, startTo, tag, member, pageable)));
+    }
+
+    // Tag facets for the project listing filter
+    @GetMapping("/tags")
+    @PreAuthorize("hasAnyRole('ADMIN','PI','MEMBER','VIEWER')")
+    public ResponseEntity<List<TagCount>> getTagCounts() {
+        return ResponseEntity.ok(projectService.getTagCounts());
     }
 
     @GetMapping("/{id}")
@@ -36,6 +58,15 @@ public class ProjectController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // Project, members, milestone progress and document stats in one response
+    @GetMapping("/{id}/overview")
+    @PreAuthorize("hasAnyRole('ADMIN','PI','MEMBER','VIEWER')")
+    public ResponseEntity<ProjectOverview> getProjectOverview(@PathVariable String id) {
+        return projectOverviewService.getOverview(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PI')")
     public ResponseEntity<Project> updateProject(@PathVariable String id, @RequestBody Project updatedProject) {
@@ -87,13 +118,46 @@ public class ProjectController {
         return ResponseEntity.noContent().build();
     }
 
+    // Add/remove many members in one request
+    @PostMapping("/{projectId}/members/batch")
+    @PreAuthorize("hasAnyRole('ADMIN','PI')")
+    public ResponseEntity<MembershipChangeResult> changeMembers(
+            @PathVariable String projectId,
+            @RequestBody ChangeMembersRequest request
+    ) {
+        return ResponseEntity.ok(projectService.changeMembers(projectId, request.getAdd(), request.getRemove()));
+    }
+
     // List members
     @GetMapping("/{projectId}/members")
     @PreAuthorize("hasAnyRole('ADMIN','PI','MEMBER')")
-    public ResponseEntity<Set<User>> listMembers(
-            @PathVariable String projectId
+    public ResponseEntity<PagedModel<UserSummary>> listMembers(
+            @PathVariable String projectId,
+            @PageableDefault(size = 50) Pageable pageable
     ) {
-        return ResponseEntity.ok(projectService.listMembers(projectId));
+        return ResponseEntity.ok(new PagedModel<>(projectService.listMembers(projectId, pageable)));
+    }
+
+    // Membership check: 204 if the user is a member, 404 otherwise
+    @GetMapping("/{projectId}/members/{username}")
+    @PreAuthorize("hasAnyRole('ADMIN','PI','MEMBER')")
+    public ResponseEntity<Void> checkMember(
+            @PathVariable String projectId,
+            @PathVariable String username
+    ) {
+        return projectService.isMember(projectId, username)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    // DTO for bulk membership changes
+    public static class ChangeMembersRequest {
+        private List<String> add;
+        private List<String> remove;
+        public List<String> getAdd() { return add; }
+        public void setAdd(List<String> add) { this.add = add; }
+        public List<String> getRemove() { return remove; }
+        public void setRemove(List<String> remove) { this.remove = remove; }
     }
 
     // DTO for add member
@@ -0,0 +1,19 @@
+package lk.ijse.cmjd.researchtracker.project;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Row of the catalogue export; column names match the bulk import so an export can be re-imported
+public record ProjectExportRow(
+        String id,
+        String title,
+        String summary,
+        Project.Status status,
+        String piUsername,
+        String tags,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
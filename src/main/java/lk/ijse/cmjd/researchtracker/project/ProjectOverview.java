@@ -0,0 +1,25 @@
+package lk.ijse.cmjd.researchtracker.project;
+
+import lk.ijse.cmjd.researchtracker.document.DocumentStats;
+import lk.ijse.cmjd.researchtracker.milestone.MilestoneProgress;
+import lk.ijse.cmjd.researchtracker.user.UserSummary;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+// Everything the project details page needs in one response
+public record ProjectOverview(
+        ProjectSummary project,
+        Members members,
+        MilestoneProgress milestones,
+        DocumentStats documents
+) {
+
+    // Member count plus the first page of members, ordered by username
+    public record Members(long total, List<UserSummary> first) {
+
+        public static Members from(Page<UserSummary> page) {
+            return new Members(page.getTotalElements(), page.getContent());
+        }
+    }
+}
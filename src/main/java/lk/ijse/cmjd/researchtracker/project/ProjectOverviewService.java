@@ -0,0 +1,68 @@
+package lk.ijse.cmjd.researchtracker.project;
+
+import lk.ijse.cmjd.researchtracker.document.DocumentRepository;
+import lk.ijse.cmjd.researchtracker.document.DocumentStats;
+import lk.ijse.cmjd.researchtracker.milestone.MilestoneProgress;
+import lk.ijse.cmjd.researchtracker.milestone.MilestoneRepository;
+import lk.ijse.cmjd.researchtracker.user.UserSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectOverviewService {
+
+    private static final int MEMBER_PREVIEW_SIZE = 100;
+
+    private final ProjectService projectService;
+    private final ProjectRepository projectRepository;
+    private final MilestoneRepository milestoneRepository;
+    private final DocumentRepository documentRepository;
+
+    // The project is resolved first (usually from cache) so an unknown id is a plain 404.
+    // The three aggregates are independent; each runs on its own virtual thread and
+    // borrows its own pooled connection only for the duration of its query.
+    public Optional<ProjectOverview> getOverview(String projectId) {
+        Optional<Project> project = projectService.getProjectById(projectId);
+        if (project.isEmpty()) {
+            return Optional.empty();
+        }
+        LocalDate today = LocalDate.now();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Page<UserSummary>> members = CompletableFuture.supplyAsync(
+                    () -> projectRepository.findMemberSummaries(projectId, PageRequest.of(0, MEMBER_PREVIEW_SIZE)),
+                    executor);
+            CompletableFuture<MilestoneProgress> milestones = CompletableFuture.supplyAsync(
+                    () -> milestoneRepository.getProgress(projectId, today), executor);
+            CompletableFuture<DocumentStats> documents = CompletableFuture.supplyAsync(
+                    () -> documentRepository.getStats(projectId), executor);
+
+            return Optional.of(new ProjectOverview(
+                    ProjectSummary.from(project.get()),
+                    ProjectOverview.Members.from(join(members)),
+                    join(milestones),
+                    join(documents)
+            ));
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
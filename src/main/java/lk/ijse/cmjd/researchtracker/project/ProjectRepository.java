@@ -1,7 +1,71 @@
 package lk.ijse.cmjd.researchtracker.project;
 
+import jakarta.persistence.QueryHint;
+import lk.ijse.cmjd.researchtracker.user.UserSummary;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface ProjectRepository extends JpaRepository<Project, String> {
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
-}
\ No newline at end of file
+public interface ProjectRepository extends JpaRepository<Project, String>, JpaSpecificationExecutor<Project> {
+
+    // Join-fetch the PI so a page of projects is a single select (plus the count)
+    @Override
+    @EntityGraph(attributePaths = "pi")
+    Page<Project> findAll(Specification<Project> spec, Pageable pageable);
+
+    @Query("select new lk.ijse.cmjd.researchtracker.project.TagCount(t, count(p)) " +
+            "from Project p join p.tagSet t group by t order by count(p) desc, t")
+    List<TagCount> countProjectsByTag();
+
+    @Query("select p.id from Project p where p.id in :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    // Members read straight off the join table, without loading the project or full users
+    @Query(value = "select new lk.ijse.cmjd.researchtracker.user.UserSummary(m.id, m.username, m.fullName, m.role) " +
+            "from Project p join p.members m where p.id = :projectId order by m.username",
+            countQuery = "select count(m) from Project p join p.members m where p.id = :projectId")
+    Page<UserSummary> findMemberSummaries(@Param("projectId") String projectId, Pageable pageable);
+
+    // Single indexed probe on project_members, cheap enough for per-request authorization checks
+    boolean existsByIdAndMembers_Username(String projectId, String username);
+
+    // Direct join-table writes for bulk membership changes; existing rows are skipped
+    @Modifying
+    @Query(value = "insert into project_members (project_id, user_id) " +
+            "select :projectId, u.id from users u where u.id in (:userIds) " +
+            "and not exists (select 1 from project_members pm where pm.project_id = :projectId and pm.user_id = u.id)",
+            nativeQuery = true)
+    int insertMembers(@Param("projectId") String projectId, @Param("userIds") Collection<String> userIds);
+
+    @Modifying
+    @Query(value = "delete from project_members where project_id = :projectId and user_id in (:userIds)",
+            nativeQuery = true)
+    int deleteMembers(@Param("projectId") String projectId, @Param("userIds") Collection<String> userIds);
+
+    // Projects with legacy tags but no rows in project_tags, in id order for keyset batching
+    @Query("select p from Project p where p.id > :after and p.tags is not null and p.tags <> '' " +
+            "and p.tagSet is empty order by p.id")
+    List<Project> findUnmigratedTags(@Param("after") String after, Pageable pageable);
+
+    // Forward-only cursor for the catalogue export: DTO rows are not kept in the persistence context and a
+    // fetch size of Integer.MIN_VALUE puts MySQL Connector/J into row-by-row streaming for this query only,
+    // so memory stays flat however many rows there are. The connection can run nothing else until the
+    // stream is closed. Must be consumed inside a transaction and closed
+    @Query("select new lk.ijse.cmjd.researchtracker.project.ProjectExportRow(" +
+            "p.id, p.title, p.summary, p.status, u.username, p.tags, p.startDate, p.endDate, p.createdAt, p.updatedAt) " +
+            "from Project p join p.pi u order by p.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    Stream<ProjectExportRow> streamExportRows();
+}
@@ -1,62 +1,191 @@
 package lk.ijse.cmjd.researchtracker.project;
 
+import lk.ijse.cmjd.researchtracker.feed.ProjectChange;
+import lk.ijse.cmjd.researchtracker.search.SearchIndex;
 import lk.ijse.cmjd.researchtracker.user.User;
 import lk.ijse.cmjd.researchtracker.user.UserRepository;
+import lk.ijse.cmjd.researchtracker.user.UserSummary;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final SearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Add a member
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "projects", key = "#projectId"),
+            @CacheEvict(cacheNames = "projectPages", allEntries = true)
+    })
     public Project addMember(String projectId, String username) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
         User user = userRepository.findByUsername(username);
         if (user == null) throw new RuntimeException("User not found");
         project.getMembers().add(user);
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        publishMember(projectId, "added", UserSummary.from(user));
+        return saved;
     }
 
     // Remove a member
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "projects", key = "#projectId"),
+            @CacheEvict(cacheNames = "projectPages", allEntries = true)
+    })
     public Project removeMember(String projectId, String username) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
         User user = userRepository.findByUsername(username);
         if (user == null) throw new RuntimeException("User not found");
         project.getMembers().remove(user);
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        publishMember(projectId, "removed", UserSummary.from(user));
+        return saved;
+    }
+
+    // Add and remove many members at once: one IN lookup for the users, then one insert and one
+    // delete on project_members instead of re-saving the whole member collection
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "projects", key = "#projectId"),
+            @CacheEvict(cacheNames = "projectPages", allEntries = true)
+    })
+    @Transactional
+    public MembershipChangeResult changeMembers(String projectId, Collection<String> add, Collection<String> remove) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found");
+        }
+        Set<String> toAdd = add != null ? new HashSet<>(add) : Set.of();
+        Set<String> toRemove = remove != null ? new HashSet<>(remove) : Set.of();
+        Set<String> usernames = new HashSet<>(toAdd);
+        usernames.addAll(toRemove);
+        if (usernames.isEmpty()) {
+            return new MembershipChangeResult(0, 0, List.of());
+        }
+
+        Map<String, UserSummary> users = userRepository.findSummariesByUsernameIn(usernames).stream()
+                .collect(Collectors.toMap(UserSummary::username, user -> user));
+        List<String> unknown = usernames.stream()
+                .filter(username -> !users.containsKey(username))
+                .sorted()
+                .toList();
+
+        List<UserSummary> adding = known(toAdd, users);
+        List<UserSummary> removing = known(toRemove, users);
+        int removed = removing.isEmpty() ? 0 : projectRepository.deleteMembers(projectId, idsOf(removing));
+        int added = adding.isEmpty() ? 0 : projectRepository.insertMembers(projectId, idsOf(adding));
+        // Sent after commit; re-adding an existing member is harmless for clients applying the delta
+        removing.forEach(user -> publishMember(projectId, "removed", user));
+        adding.forEach(user -> publishMember(projectId, "added", user));
+        return new MembershipChangeResult(added, removed, unknown);
+    }
+
+    private static List<UserSummary> known(Set<String> usernames, Map<String, UserSummary> users) {
+        List<UserSummary> known = new ArrayList<>();
+        for (String username : usernames) {
+            UserSummary user = users.get(username);
+            if (user != null) known.add(user);
+        }
+        return known;
+    }
+
+    private static List<String> idsOf(List<UserSummary> users) {
+        return users.stream().map(UserSummary::id).toList();
+    }
+
+    private void publishMember(String projectId, String action, UserSummary user) {
+        eventPublisher.publishEvent(new ProjectChange(projectId, "member", action, user.id(), user));
+    }
+
+    private void publishProject(Project project) {
+        eventPublisher.publishEvent(new ProjectChange(project.getId(), "project", "updated", project.getId(),
+                ProjectSummary.from(project)));
     }
 
     // List members
-    public Set<User> listMembers(String projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
-        return project.getMembers();
+    // Ordered by username; the query fixes the sort, so only the page and size are used
+    public Page<UserSummary> listMembers(String projectId, Pageable pageable) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found");
+        }
+        return projectRepository.findMemberSummaries(projectId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    public boolean isMember(String projectId, String username) {
+        return projectRepository.existsByIdAndMembers_Username(projectId, username);
     }
 
+    @CacheEvict(cacheNames = "projectPages", allEntries = true)
     public Project createProject(Project project, String piUsername) {
         User pi = userRepository.findByUsername(piUsername);
         project.setPi(pi);
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        searchIndex.indexProject(saved);
+        return saved;
     }
 
     public List<Project> getAllProjects() {
         return projectRepository.findAll();
     }
 
+    @Cacheable(cacheNames = "projectPages")
+    public Page<ProjectSummary> searchProjects(Project.Status status, String piId, LocalDate startFrom, LocalDate startTo,
+                                        String tag, String member, Pageable pageable) {
+        Specification<Project> spec = Specification.allOf(
+                ProjectSpecifications.hasStatus(status),
+                ProjectSpecifications.hasPi(piId),
+                ProjectSpecifications.startsOnOrAfter(startFrom),
+                ProjectSpecifications.startsOnOrBefore(startTo),
+                ProjectSpecifications.hasTag(tag),
+                ProjectSpecifications.involvesUser(member)
+        );
+        return projectRepository.findAll(spec, pageable).map(ProjectSummary::from);
+    }
+
+    public List<TagCount> getTagCounts() {
+        return projectRepository.countProjectsByTag();
+    }
+
+    // Cached detached, so the lazy tag set is loaded before the entity leaves the session.
+    // Members stay uninitialized: callers must read them through listMembers, not getMembers
+    @Cacheable(cacheNames = "projects", key = "#id", unless = "#result == null")
+    @Transactional(readOnly = true)
     public Optional<Project> getProjectById(String id) {
-        return projectRepository.findById(id);
+        Optional<Project> project = projectRepository.findById(id);
+        project.ifPresent(p -> Hibernate.initialize(p.getTagSet()));
+        return project;
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "projects", key = "#id"),
+            @CacheEvict(cacheNames = "projectPages", allEntries = true)
+    })
     public Project updateProject(String id, Project updatedProject) {
         return projectRepository.findById(id).map(project -> {
             project.setTitle(updatedProject.getTitle());
@@ -66,19 +195,36 @@ public class ProjectService {
             project.setStartDate(updatedProject.getStartDate());
             project.setEndDate(updatedProject.getEndDate());
             project.setUpdatedAt(updatedProject.getUpdatedAt());
-            return projectRepository.save(project);
+            Project saved = projectRepository.save(project);
+            searchIndex.indexProject(saved);
+            publishProject(saved);
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Project not found"));
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "projects", key = "#id"),
+            @CacheEvict(cacheNames = "projectPages", allEntries = true),
+            @CacheEvict(cacheNames = "milestones", key = "#id")
+    })
     public void deleteProject(String id) {
         projectRepository.deleteById(id);
+        searchIndex.deleteProject(id);
+        eventPublisher.publishEvent(new ProjectChange(id, "project", "deleted", id, null));
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "projects", key = "#projectId"),
+            @CacheEvict(cacheNames = "projectPages", allEntries = true)
+    })
     public Project updateStatus(String projectId, Project.Status status) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
         project.setStatus(status);
         project.setUpdatedAt(LocalDateTime.now());
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        searchIndex.indexProject(saved);
+        publishProject(saved);
+        return saved;
     }
 }
\ No newline at end of file
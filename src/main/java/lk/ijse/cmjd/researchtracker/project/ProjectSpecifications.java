@@ -0,0 +1,55 @@
+package lk.ijse.cmjd.researchtracker.project;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lk.ijse.cmjd.researchtracker.user.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+// Filters for the project listing; a null argument means "no filter"
+public final class ProjectSpecifications {
+
+    private ProjectSpecifications() {
+    }
+
+    public static Specification<Project> hasStatus(Project.Status status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Project> hasPi(String piId) {
+        return (root, query, cb) -> piId == null ? null : cb.equal(root.get("pi").get("id"), piId);
+    }
+
+    public static Specification<Project> startsOnOrAfter(LocalDate from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("startDate"), from);
+    }
+
+    public static Specification<Project> startsOnOrBefore(LocalDate to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThanOrEqualTo(root.get("startDate"), to);
+    }
+
+    // Exact match on a normalized tag, resolved through the indexed project_tags table
+    public static Specification<Project> hasTag(String tag) {
+        return (root, query, cb) -> {
+            if (tag == null || tag.isBlank()) return null;
+            Join<Project, String> tags = root.join("tagSet");
+            return cb.equal(tags, Project.normalizeTag(tag));
+        };
+    }
+
+    // Projects the user leads as PI or belongs to as a member
+    public static Specification<Project> involvesUser(String username) {
+        return (root, query, cb) -> {
+            if (username == null) return null;
+            Subquery<String> membership = query.subquery(String.class);
+            Root<Project> member = membership.from(Project.class);
+            Join<Project, User> members = member.join("members");
+            membership.select(member.get("id"))
+                    .where(cb.equal(member.get("id"), root.get("id")),
+                            cb.equal(members.get("username"), username));
+            return cb.or(cb.equal(root.get("pi").get("username"), username), cb.exists(membership));
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package lk.ijse.cmjd.researchtracker.project;
+
+import lk.ijse.cmjd.researchtracker.user.UserSummary;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Row of the project listing: the PI is summarized and members are left out
+public record ProjectSummary(
+        String id,
+        String title,
+        String summary,
+        Project.Status status,
+        UserSummary pi,
+        String tags,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static ProjectSummary from(Project project) {
+        return new ProjectSummary(
+                project.getId(),
+                project.getTitle(),
+                project.getSummary(),
+                project.getStatus(),
+                UserSummary.from(project.getPi()),
+                project.getTags(),
+                project.getStartDate(),
+                project.getEndDate(),
+                project.getCreatedAt(),
+                project.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package lk.ijse.cmjd.researchtracker.project;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Backfills the project_tags table from the legacy comma-separated tags column for projects
+ * saved before tags were normalized. Runs at startup and is a no-op once every project is migrated.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectTagMigration implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String lastId = "";
+        int migrated;
+        do {
+            String after = lastId;
+            List<Project> batch = transactionTemplate.execute(status -> {
+                List<Project> projects = projectRepository.findUnmigratedTags(after, PageRequest.of(0, BATCH_SIZE));
+                projects.forEach(project -> project.setTags(project.getTags()));
+                return projects;
+            });
+            migrated = batch.size();
+            if (migrated > 0) {
+                lastId = batch.get(migrated - 1).getId();
+            }
+        } while (migrated == BATCH_SIZE);
+    }
+}
@@ -0,0 +1,5 @@
+package lk.ijse.cmjd.researchtracker.project;
+
+// Tag facet: how many projects carry a tag
+public record TagCount(String tag, long projects) {
+}
@@ -0,0 +1,29 @@
+package lk.ijse.cmjd.researchtracker.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+    private final SearchIndex searchIndex;
+
+    // Full-text search across projects, milestones and documents (e.g. /api/search?q=climate&type=document)
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN','PI','MEMBER','VIEWER')")
+    public ResponseEntity<PagedModel<SearchHit>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @PageableDefault(size = 20) Pageable pageable
+    ) throws IOException {
+        return ResponseEntity.ok(new PagedModel<>(searchIndex.search(q, type, pageable)));
+    }
+}
@@ -0,0 +1,5 @@
+package lk.ijse.cmjd.researchtracker.search;
+
+// One ranked search result; {@code type} is "project", "milestone" or "document"
+public record SearchHit(String type, String id, String projectId, String title, float score) {
+}
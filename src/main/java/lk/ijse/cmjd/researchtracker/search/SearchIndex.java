@@ -0,0 +1,290 @@
+package lk.ijse.cmjd.researchtracker.search;
+
+import jakarta.annotation.PreDestroy;
+import lk.ijse.cmjd.researchtracker.document.DocumentRepository;
+import lk.ijse.cmjd.researchtracker.document.DocumentStorage;
+import lk.ijse.cmjd.researchtracker.milestone.Milestone;
+import lk.ijse.cmjd.researchtracker.milestone.MilestoneRepository;
+import lk.ijse.cmjd.researchtracker.project.Project;
+import lk.ijse.cmjd.researchtracker.project.ProjectRepository;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Embedded Lucene index over projects, milestones and documents (including the text of
+ * plain-text uploads). Services push every save/delete here; changes are searchable right
+ * away through near-real-time readers and committed to disk in the background.
+ */
+@Component
+public class SearchIndex {
+
+    private static final String[] SEARCH_FIELDS = {"title", "body", "tags"};
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of("title", 3f, "tags", 2f, "body", 1f);
+    private static final long MAX_EXTRACTED_FILE_SIZE = 10L * 1024 * 1024;
+    private static final int MAX_EXTRACTED_CHARS = 1024 * 1024;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ProjectRepository projectRepository;
+    private final MilestoneRepository milestoneRepository;
+    private final DocumentRepository documentRepository;
+    private final DocumentStorage documentStorage;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    public SearchIndex(ProjectRepository projectRepository,
+                       MilestoneRepository milestoneRepository,
+                       DocumentRepository documentRepository,
+                       DocumentStorage documentStorage,
+                       @Value("${search.index.dir:search-index}") String indexDir) throws IOException {
+        this.projectRepository = projectRepository;
+        this.milestoneRepository = milestoneRepository;
+        this.documentRepository = documentRepository;
+        this.documentStorage = documentStorage;
+        Path indexPath = Files.createDirectories(Paths.get(indexDir));
+        this.writer = new IndexWriter(FSDirectory.open(indexPath), new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public void indexProject(Project project) {
+        Document doc = baseDocument("project", project.getId(), project.getId(), project.getTitle());
+        addText(doc, "body", project.getSummary());
+        addText(doc, "tags", project.getTags());
+        update("project", project.getId(), doc);
+    }
+
+    public void indexMilestone(Milestone milestone) {
+        Document doc = baseDocument("milestone", milestone.getId(),
+                milestone.getProject() != null ? milestone.getProject().getId() : null, milestone.getTitle());
+        addText(doc, "body", milestone.getDescription());
+        update("milestone", milestone.getId(), doc);
+    }
+
+    public void indexDocument(lk.ijse.cmjd.researchtracker.document.Document document) {
+        Document doc = baseDocument("document", document.getId(),
+                document.getProject() != null ? document.getProject().getId() : null, document.getTitle());
+        addText(doc, "body", document.getDescription());
+        addText(doc, "body", extractText(document));
+        update("document", document.getId(), doc);
+    }
+
+    public void delete(String type, String id) {
+        try {
+            writer.deleteDocuments(new Term("key", key(type, id)));
+            changed();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // The project's own entry and every milestone and document hit under it
+    public void deleteProject(String projectId) {
+        try {
+            writer.deleteDocuments(new Term("projectId", projectId));
+            changed();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // Ranked search; {@code type} optionally restricts results to one kind of record
+    public Page<SearchHit> search(String queryText, String type, Pageable pageable) throws IOException {
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(parse(queryText), BooleanClause.Occur.MUST);
+        if (type != null && !type.isBlank()) {
+            query.add(new TermQuery(new Term("type", type.toLowerCase())), BooleanClause.Occur.FILTER);
+        }
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int end = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+            TopDocs top = searcher.search(query.build(), Math.max(end, 1));
+            List<SearchHit> hits = new ArrayList<>();
+            StoredFields storedFields = searcher.storedFields();
+            for (int i = (int) pageable.getOffset(); i < top.scoreDocs.length; i++) {
+                ScoreDoc scoreDoc = top.scoreDocs[i];
+                Document doc = storedFields.document(scoreDoc.doc);
+                hits.add(new SearchHit(doc.get("type"), doc.get("id"), doc.get("projectId"), doc.get("title"), scoreDoc.score));
+            }
+            return new PageImpl<>(hits, pageable, top.totalHits.value);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    // Fill the index from the database the first time the app starts with an empty index
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() throws IOException {
+        if (writer.getDocStats().numDocs > 0) {
+            return;
+        }
+        forEachRow(projectRepository, this::indexProject);
+        forEachRow(milestoneRepository, this::indexMilestone);
+        forEachRow(documentRepository, this::indexDocument);
+        commit();
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms:5000}")
+    public void commit() throws IOException {
+        if (dirty.getAndSet(false)) {
+            writer.commit();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+
+    private <T> void forEachRow(JpaRepository<T, String> repository, Consumer<T> indexer) {
+        // A stable order, or rows can shift between pages and be skipped or indexed twice
+        Page<T> page = repository.findAll(PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id")));
+        while (true) {
+            page.forEach(indexer);
+            if (!page.hasNext()) {
+                break;
+            }
+            page = repository.findAll(page.nextPageable());
+        }
+    }
+
+    private Query parse(String queryText) {
+        if (queryText == null || queryText.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query must not be empty");
+        }
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCH_FIELDS, analyzer, FIELD_BOOSTS);
+        try {
+            return parser.parse(queryText);
+        } catch (ParseException e) {
+            // Not valid query syntax: search for the words literally
+            try {
+                return parser.parse(QueryParser.escape(queryText));
+            } catch (ParseException escaped) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid search query");
+            }
+        }
+    }
+
+    private void update(String type, String id, Document doc) {
+        try {
+            writer.updateDocument(new Term("key", key(type, id)), doc);
+            changed();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void changed() throws IOException {
+        dirty.set(true);
+        searcherManager.maybeRefresh();
+    }
+
+    private static Document baseDocument(String type, String id, String projectId, String title) {
+        Document doc = new Document();
+        doc.add(new StringField("key", key(type, id), Field.Store.NO));
+        doc.add(new StringField("type", type, Field.Store.YES));
+        doc.add(new StringField("id", id, Field.Store.YES));
+        if (projectId != null) {
+            doc.add(new StringField("projectId", projectId, Field.Store.YES));
+        }
+        if (title != null) {
+            doc.add(new TextField("title", title, Field.Store.YES));
+        }
+        return doc;
+    }
+
+    private static void addText(Document doc, String field, String text) {
+        if (text != null && !text.isBlank()) {
+            doc.add(new TextField(field, text, Field.Store.NO));
+        }
+    }
+
+    private static String key(String type, String id) {
+        return type + ":" + id;
+    }
+
+    // Only plain-text formats are read; binary formats (PDF, Office, ...) are indexed by metadata.
+    // Only stored blobs are opened: urlOrPath is client-supplied and would let search probe any file
+    private String extractText(lk.ijse.cmjd.researchtracker.document.Document document) {
+        String fileType = document.getFileType();
+        if (fileType == null || !isTextType(fileType)) {
+            return null;
+        }
+        Path path = documentStorage.find(document.getContentHash()).orElse(null);
+        if (path == null) {
+            return null;
+        }
+        try {
+            if (Files.size(path) > MAX_EXTRACTED_FILE_SIZE) {
+                return null;
+            }
+            CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            try (Reader reader = new InputStreamReader(Files.newInputStream(path), decoder)) {
+                char[] buffer = new char[MAX_EXTRACTED_CHARS];
+                int length = 0;
+                int read;
+                while (length < buffer.length && (read = reader.read(buffer, length, buffer.length - length)) != -1) {
+                    length += read;
+                }
+                return new String(buffer, 0, length);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private static boolean isTextType(String fileType) {
+        String type = fileType.toLowerCase();
+        return type.startsWith("text/")
+                || type.contains("json")
+                || type.contains("xml")
+                || type.contains("csv")
+                || type.contains("markdown");
+    }
+}
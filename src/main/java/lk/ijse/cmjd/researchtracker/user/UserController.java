@@ -1,13 +1,15 @@
 package lk.ijse.cmjd.researchtracker.user;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/users")
@@ -25,31 +27,26 @@ public class UserController {
     // Endpoint to get users by role (e.g. /api/users/role/PI)
     @GetMapping("/role/{role}")
     @PreAuthorize("hasAnyRole('ADMIN','PI')")
-    public ResponseEntity<List<User>> getUsersByRole(@PathVariable String role) {
+    public ResponseEntity<PagedModel<UserSummary>> getUsersByRole(
+            @PathVariable String role,
+            @PageableDefault(size = 50, sort = "username") Pageable pageable
+    ) {
+        UserRole userRole;
         try {
-            String roleUpper = role.toUpperCase();
-            // If requesting PI specifically, we can use the dedicated service method
-            if ("PI".equals(roleUpper)) {
-                return ResponseEntity.ok(userService.getPIUsers());
-            }
-            // Fallback: filter all users by role name
-            List<User> users = userService.getAllUsers().stream()
-                    .filter(u -> u.getRole().name().equalsIgnoreCase(roleUpper))
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(users);
-        } catch (Exception ex) {
+            userRole = UserRole.valueOf(role.toUpperCase());
+        } catch (IllegalArgumentException ex) {
             return ResponseEntity.badRequest().build();
         }
+        return ResponseEntity.ok(new PagedModel<>(userService.getUsersByRole(userRole, pageable)));
     }
 
     // List all users for project membership (Admin and PI), EXCLUDING ADMINS
     @GetMapping("/all-for-membership")
     @PreAuthorize("hasAnyRole('ADMIN','PI')")
-    public ResponseEntity<List<User>> getAllForMembership() {
-        List<User> usersNoAdmins = userService.getAllUsers().stream()
-                .filter(u -> u.getRole() != UserRole.ADMIN)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(usersNoAdmins);
+    public ResponseEntity<PagedModel<UserSummary>> getAllForMembership(
+            @PageableDefault(size = 50, sort = "username") Pageable pageable
+    ) {
+        return ResponseEntity.ok(new PagedModel<>(userService.getUsersExcludingRole(UserRole.ADMIN, pageable)));
     }
 
     // Get user profile by ID
@@ -1,8 +1,34 @@
 package lk.ijse.cmjd.researchtracker.user;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface UserRepository extends JpaRepository<User, String> {
     boolean existsByUsername(String username);
     User findByUsername(String username);
-}
\ No newline at end of file
+
+    @Query(value = "select new lk.ijse.cmjd.researchtracker.user.UserSummary(u.id, u.username, u.fullName, u.role) " +
+            "from User u where u.role = :role",
+            countQuery = "select count(u) from User u where u.role = :role")
+    Page<UserSummary> findSummariesByRole(@Param("role") UserRole role, Pageable pageable);
+
+    @Query(value = "select new lk.ijse.cmjd.researchtracker.user.UserSummary(u.id, u.username, u.fullName, u.role) " +
+            "from User u where u.role <> :role",
+            countQuery = "select count(u) from User u where u.role <> :role")
+    Page<UserSummary> findSummariesByRoleNot(@Param("role") UserRole role, Pageable pageable);
+
+    @Query("select new lk.ijse.cmjd.researchtracker.user.UserSummary(u.id, u.username, u.fullName, u.role) " +
+            "from User u where u.username in :usernames")
+    List<UserSummary> findSummariesByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") String id, @Param("password") String password);
+}
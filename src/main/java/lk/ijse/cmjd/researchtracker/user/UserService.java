@@ -1,32 +1,53 @@
 package lk.ijse.cmjd.researchtracker.user;
 
+import lk.ijse.cmjd.researchtracker.auth.TokenVersionRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
+    @Cacheable(cacheNames = "userLists", key = "'all'")
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
-    public List<User> getPIUsers() {
-        return userRepository.findAll().stream()
-                .filter(u -> u.getRole() == UserRole.PI)
-                .collect(Collectors.toList());
+    @Cacheable(cacheNames = "userLists", key = "{#root.methodName, #role, #pageable}")
+    public Page<UserSummary> getUsersByRole(UserRole role, Pageable pageable) {
+        return userRepository.findSummariesByRole(role, pageable);
     }
 
+    @Cacheable(cacheNames = "userLists", key = "{#root.methodName, #role, #pageable}")
+    public Page<UserSummary> getUsersExcludingRole(UserRole role, Pageable pageable) {
+        return userRepository.findSummariesByRoleNot(role, pageable);
+    }
+
+    @Cacheable(cacheNames = "users", key = "#id", unless = "#result == null")
     public Optional<User> getUserById(String id) {
         return userRepository.findById(id);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "users", key = "#id"),
+            @CacheEvict(cacheNames = "userLists", allEntries = true),
+            // Cached projects may embed the user as PI or member
+            @CacheEvict(cacheNames = {"projects", "projectPages"}, allEntries = true)
+    })
     public void deleteUser(String id) {
+        // Stateless tokens are not re-checked against the DB, so revoke them explicitly
+        userRepository.findById(id)
+                .ifPresent(user -> tokenVersionRegistry.revokeAll(user.getUsername()));
         userRepository.deleteById(id);
     }
 }
\ No newline at end of file
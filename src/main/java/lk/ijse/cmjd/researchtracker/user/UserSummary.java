@@ -0,0 +1,14 @@
+package lk.ijse.cmjd.researchtracker.user;
+
+// Public view of a user for listings: no password hash, no authorities
+public record UserSummary(String id, String username, String fullName, UserRole role) {
+
+    public static UserSummary from(User user) {
+        return user == null ? null : new UserSummary(user.getId(), user.getUsername(), user.getFullName(), user.getRole());
+    }
+
+    // For JPQL projections where the user comes from a left join and may be missing
+    public static UserSummary of(String id, String username, String fullName, UserRole role) {
+        return id == null ? null : new UserSummary(id, username, fullName, role);
+    }
+}
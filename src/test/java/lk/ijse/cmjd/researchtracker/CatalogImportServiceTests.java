@@ -0,0 +1,74 @@
+package lk.ijse.cmjd.researchtracker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lk.ijse.cmjd.researchtracker.catalog.CatalogImportService;
+import lk.ijse.cmjd.researchtracker.catalog.ImportResult;
+import lk.ijse.cmjd.researchtracker.project.ProjectRepository;
+import lk.ijse.cmjd.researchtracker.search.SearchIndex;
+import lk.ijse.cmjd.researchtracker.user.User;
+import lk.ijse.cmjd.researchtracker.user.UserRepository;
+import lk.ijse.cmjd.researchtracker.user.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Each chunk commits on its own, so the test runs outside the usual rollback-only test transaction
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({CatalogImportService.class, ObjectMapper.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CatalogImportServiceTests {
+
+	private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+	@Autowired
+	private CatalogImportService catalogImportService;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private SearchIndex searchIndex;
+
+	@Test
+	void badRowsAreSkippedAndARejectedChunkFailsOnlyItsOwnRows() throws Exception {
+		User pi = new User();
+		pi.setUsername("import-pi");
+		pi.setPassword("secret");
+		pi.setFullName("Import PI");
+		pi.setRole(UserRole.PI);
+		userRepository.save(pi);
+
+		// Lines 2..501 fill the first chunk, one of them with an invalid status. The second chunk has
+		// an id longer than the column, so the database rejects it as a whole
+		StringBuilder csv = new StringBuilder("id,title,status,piUsername\n");
+		for (int i = 0; i < 500; i++) {
+			String status = i == 10 ? "unknown" : "active";
+			csv.append(",Project ").append(i).append(',').append(status).append(",import-pi\n");
+		}
+		csv.append("x".repeat(300)).append(",Too long,active,import-pi\n");
+		csv.append(",Same chunk,active,import-pi\n");
+
+		ImportResult result = catalogImportService.importProjects(
+				new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), TEXT_CSV);
+
+		assertThat(result.imported()).isEqualTo(499);
+		assertThat(result.failed()).isEqualTo(3);
+		assertThat(result.errors()).extracting(ImportResult.RowError::line).containsExactly(12L, 502L, 503L);
+		assertThat(result.errors().get(0).message()).isEqualTo("Invalid status: unknown");
+		assertThat(result.errors().get(1).message()).startsWith("Chunk rejected by the database");
+		assertThat(projectRepository.count()).isEqualTo(499);
+	}
+}
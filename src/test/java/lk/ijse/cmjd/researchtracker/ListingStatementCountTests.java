@@ -0,0 +1,162 @@
+package lk.ijse.cmjd.researchtracker;
+
+import jakarta.persistence.EntityManager;
+import lk.ijse.cmjd.researchtracker.document.Document;
+import lk.ijse.cmjd.researchtracker.document.DocumentMetrics;
+import lk.ijse.cmjd.researchtracker.document.DocumentService;
+import lk.ijse.cmjd.researchtracker.document.DocumentStorage;
+import lk.ijse.cmjd.researchtracker.milestone.Milestone;
+import lk.ijse.cmjd.researchtracker.milestone.MilestoneService;
+import lk.ijse.cmjd.researchtracker.project.Project;
+import lk.ijse.cmjd.researchtracker.project.ProjectService;
+import lk.ijse.cmjd.researchtracker.search.SearchIndex;
+import lk.ijse.cmjd.researchtracker.user.User;
+import lk.ijse.cmjd.researchtracker.user.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The list endpoints must issue the same number of statements whatever the row count
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({ProjectService.class, MilestoneService.class, DocumentService.class})
+class ListingStatementCountTests {
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private ProjectService projectService;
+
+	@Autowired
+	private MilestoneService milestoneService;
+
+	@Autowired
+	private DocumentService documentService;
+
+	@MockitoBean
+	private DocumentStorage documentStorage;
+
+	@MockitoBean
+	private SearchIndex searchIndex;
+
+	@MockitoBean
+	private DocumentMetrics documentMetrics;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void projectListingStatementCountIsConstant() {
+		seedProjects(2);
+		long small = countStatements(() -> projectService.searchProjects(
+				null, null, null, null, null, null, PageRequest.of(0, 100)));
+		seedProjects(40);
+		long large = countStatements(() -> projectService.searchProjects(
+				null, null, null, null, null, null, PageRequest.of(0, 100)));
+
+		assertThat(large).isEqualTo(small);
+	}
+
+	@Test
+	void milestoneListingStatementCountIsConstant() {
+		Project few = seed(5);
+		Project many = seed(50);
+
+		assertThat(countStatements(() -> milestoneService.getMilestonesByProject(many.getId())))
+				.isEqualTo(countStatements(() -> milestoneService.getMilestonesByProject(few.getId())))
+				.isEqualTo(1);
+	}
+
+	@Test
+	void documentListingStatementCountIsConstant() {
+		Project few = seed(5);
+		Project many = seed(50);
+
+		assertThat(countStatements(() -> documentService.getDocumentsByProject(many.getId())))
+				.isEqualTo(countStatements(() -> documentService.getDocumentsByProject(few.getId())))
+				.isEqualTo(1);
+	}
+
+	private long countStatements(Runnable listing) {
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+		listing.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	// Many projects, each with its own PI, members and tags
+	private void seedProjects(int count) {
+		for (int i = 0; i < count; i++) {
+			project("Project " + i);
+		}
+	}
+
+	// One project with its own PI and rows, each row created by a different user
+	private Project seed(int rows) {
+		Project project = project("Project " + rows);
+
+		for (int i = 0; i < rows; i++) {
+			User author = user(UserRole.MEMBER);
+
+			Milestone milestone = new Milestone();
+			milestone.setId(UUID.randomUUID().toString());
+			milestone.setProject(project);
+			milestone.setTitle("Milestone " + i);
+			milestone.setDueDate(LocalDate.now().plusDays(i));
+			milestone.setCreatedBy(author);
+			milestone.setCreatedAt(LocalDateTime.now());
+			entityManager.persist(milestone);
+
+			Document document = new Document();
+			document.setProject(project);
+			document.setTitle("Document " + i);
+			document.setUploadedBy(author);
+			entityManager.persist(document);
+		}
+		return project;
+	}
+
+	private Project project(String title) {
+		Project project = new Project();
+		project.setTitle(title);
+		project.setStatus(Project.Status.ACTIVE);
+		project.setPi(user(UserRole.PI));
+		project.setTags("AI, climate, " + title);
+		project.setStartDate(LocalDate.now());
+		for (int i = 0; i < 3; i++) {
+			project.getMembers().add(user(UserRole.MEMBER));
+		}
+		entityManager.persist(project);
+		return project;
+	}
+
+	private User user(UserRole role) {
+		User user = new User();
+		user.setUsername(role.name().toLowerCase() + "-" + UUID.randomUUID());
+		user.setPassword("secret");
+		user.setFullName("Test " + role.name());
+		user.setRole(role);
+		entityManager.persist(user);
+		return user;
+	}
+}
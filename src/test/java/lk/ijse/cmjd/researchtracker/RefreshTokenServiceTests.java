@@ -0,0 +1,108 @@
+package lk.ijse.cmjd.researchtracker;
+
+import lk.ijse.cmjd.researchtracker.auth.JwtUtil;
+import lk.ijse.cmjd.researchtracker.auth.RefreshSessionRepository;
+import lk.ijse.cmjd.researchtracker.auth.RefreshTokenService;
+import lk.ijse.cmjd.researchtracker.auth.TokenResponse;
+import lk.ijse.cmjd.researchtracker.auth.TokenVersion;
+import lk.ijse.cmjd.researchtracker.auth.TokenVersionRegistry;
+import lk.ijse.cmjd.researchtracker.auth.TokenVersionRepository;
+import lk.ijse.cmjd.researchtracker.user.User;
+import lk.ijse.cmjd.researchtracker.user.UserRepository;
+import lk.ijse.cmjd.researchtracker.user.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Rotation, replay detection and logout-everywhere against mocked repositories
+class RefreshTokenServiceTests {
+
+	private RefreshSessionRepository refreshSessionRepository;
+	private TokenVersionRepository tokenVersionRepository;
+	private TokenVersionRegistry tokenVersionRegistry;
+	private RefreshTokenService refreshTokenService;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		refreshSessionRepository = mock(RefreshSessionRepository.class);
+		tokenVersionRepository = mock(TokenVersionRepository.class);
+		UserRepository userRepository = mock(UserRepository.class);
+
+		user = new User();
+		user.setUsername("alice");
+		user.setRole(UserRole.MEMBER);
+		when(userRepository.findByUsername("alice")).thenReturn(user);
+
+		tokenVersionRegistry = new TokenVersionRegistry(tokenVersionRepository);
+		refreshTokenService = new RefreshTokenService(refreshSessionRepository, userRepository,
+				tokenVersionRegistry, new JwtUtil());
+	}
+
+	@Test
+	void refreshRotatesTheToken() {
+		TokenResponse first = refreshTokenService.openSession(user);
+		TokenResponse second = refreshTokenService.refresh(first.refreshToken());
+
+		assertThat(second.refreshToken()).isNotEqualTo(first.refreshToken());
+		assertThat(refreshTokenService.refresh(second.refreshToken()).refreshToken())
+				.isNotEqualTo(second.refreshToken());
+	}
+
+	@Test
+	void replayedTokenEndsTheSession() {
+		TokenResponse first = refreshTokenService.openSession(user);
+		TokenResponse second = refreshTokenService.refresh(first.refreshToken());
+
+		assertUnauthorized(() -> refreshTokenService.refresh(first.refreshToken()));
+		// The legitimate holder is logged out too: the session is gone, not just the old token
+		assertUnauthorized(() -> refreshTokenService.refresh(second.refreshToken()));
+	}
+
+	@Test
+	void logoutEverywhereRevokesOtherSessions() {
+		TokenResponse laptop = refreshTokenService.openSession(user);
+		TokenResponse phone = refreshTokenService.openSession(user);
+
+		refreshTokenService.logout(laptop.refreshToken(), true);
+
+		assertUnauthorized(() -> refreshTokenService.refresh(laptop.refreshToken()));
+		assertUnauthorized(() -> refreshTokenService.refresh(phone.refreshToken()));
+		assertThat(tokenVersionRegistry.isCurrent("alice", 0)).isFalse();
+	}
+
+	@Test
+	void failedRotationKeepsThePresentedTokenValid() {
+		TokenResponse first = refreshTokenService.openSession(user);
+		when(refreshSessionRepository.save(any())).thenThrow(new DataAccessResourceFailureException("down"));
+
+		assertThatThrownBy(() -> refreshTokenService.refresh(first.refreshToken()))
+				.isInstanceOf(DataAccessResourceFailureException.class);
+
+		when(refreshSessionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		assertThat(refreshTokenService.refresh(first.refreshToken()).refreshToken()).isNotNull();
+	}
+
+	@Test
+	void failedRevocationKeepsTheCurrentVersion() {
+		when(tokenVersionRepository.save(any(TokenVersion.class)))
+				.thenThrow(new DataAccessResourceFailureException("down"));
+
+		assertThatThrownBy(() -> tokenVersionRegistry.revokeAll("alice"))
+				.isInstanceOf(DataAccessResourceFailureException.class);
+		assertThat(tokenVersionRegistry.isCurrent("alice", 0)).isTrue();
+	}
+
+	private static void assertUnauthorized(Runnable refresh) {
+		assertThatThrownBy(refresh::run)
+				.isInstanceOf(ResponseStatusException.class)
+				.hasMessageContaining("401");
+	}
+}
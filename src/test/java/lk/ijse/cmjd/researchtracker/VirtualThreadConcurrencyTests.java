@@ -0,0 +1,115 @@
+package lk.ijse.cmjd.researchtracker;
+
+import lk.ijse.cmjd.researchtracker.auth.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The same burst of slow requests against Tomcat capped at a few worker threads, run once on
+// platform threads and once with spring.threads.virtual.enabled, recording peak concurrency.
+// Each request holds a pooled connection, so with virtual threads the Hikari pool is the cap
+class VirtualThreadConcurrencyTests {
+
+	private static final int TOMCAT_THREADS = 8;
+	private static final int POOL_SIZE = 16;
+	private static final int REQUESTS = 64;
+	private static final long HOLD_MILLIS = 300;
+
+	@Test
+	void platformThreadsAreCappedByTheTomcatPool() throws Exception {
+		assertThat(peakConcurrency(false)).isLessThanOrEqualTo(TOMCAT_THREADS);
+	}
+
+	@Test
+	void virtualThreadsAreNotCappedByTheTomcatPool() throws Exception {
+		assertThat(peakConcurrency(true)).isGreaterThan(TOMCAT_THREADS).isLessThanOrEqualTo(POOL_SIZE);
+	}
+
+	private int peakConcurrency(boolean virtualThreads) throws Exception {
+		HoldController.reset();
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ResearchtrackerApplication.class)
+				.profiles("concurrency-test")
+				// Command-line arguments, so they take precedence over application.properties
+				.run(
+						"--server.port=0",
+						"--server.tomcat.threads.max=" + TOMCAT_THREADS,
+						"--spring.threads.virtual.enabled=" + virtualThreads,
+						"--spring.datasource.url=jdbc:h2:mem:concurrency-" + virtualThreads + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+						"--spring.datasource.username=sa",
+						"--spring.datasource.password=",
+						"--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+						"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+						"--spring.jpa.show-sql=false",
+						"--logging.level.org.springframework.security=INFO",
+						"--search.index.dir=target/concurrency-test/search-index-" + virtualThreads,
+						"--document.upload.dir=target/concurrency-test/uploads"
+				)) {
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			String token = context.getBean(JwtUtil.class).generateToken("loadtest", "MEMBER");
+			HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+			HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/concurrency-test/hold"))
+					.header("Authorization", "Bearer " + token)
+					.build();
+
+			List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>();
+			for (int i = 0; i < REQUESTS; i++) {
+				responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+			}
+			for (CompletableFuture<HttpResponse<Void>> response : responses) {
+				assertThat(response.get(30, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+			}
+			return HoldController.peak.get();
+		}
+	}
+
+	// Stands in for a request blocked on JDBC: borrows a connection and keeps it for the hold
+	@RestController
+	@Profile("concurrency-test")
+	static class HoldController {
+
+		static final AtomicInteger inFlight = new AtomicInteger();
+		static final AtomicInteger peak = new AtomicInteger();
+
+		private final DataSource dataSource;
+
+		HoldController(DataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+
+		static void reset() {
+			inFlight.set(0);
+			peak.set(0);
+		}
+
+		@GetMapping("/api/concurrency-test/hold")
+		public void hold() throws SQLException, InterruptedException {
+			try (Connection connection = dataSource.getConnection()) {
+				peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(HOLD_MILLIS);
+				} finally {
+					inFlight.decrementAndGet();
+				}
+			}
+		}
+	}
+}